@@ -0,0 +1,48 @@
+package diegobustos.my_task_planner_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+public final class BcryptCost {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^(?:\\{bcrypt})?\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final String SAMPLE_PASSWORD = "calibration-sample-password";
+
+    private BcryptCost() {
+    }
+
+    // Picks the highest cost in [min, max] whose measured hash time stays within the target.
+    // Each cost step doubles the work, so measuring stops at the first cost over budget.
+    public static int calibrate(Duration target, int min, int max) {
+        new BCryptPasswordEncoder(min).encode(SAMPLE_PASSWORD);
+
+        int chosen = min;
+        for (int cost = min; cost <= max; cost++) {
+            long startedAt = System.nanoTime();
+            new BCryptPasswordEncoder(cost).encode(SAMPLE_PASSWORD);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            log.debug("BCrypt cost {} took {} ms", cost, elapsed.toMillis());
+            if (elapsed.compareTo(target) > 0) {
+                break;
+            }
+            chosen = cost;
+        }
+
+        log.info("Calibrated BCrypt cost {} for a {} ms per-hash target", chosen, target.toMillis());
+        return chosen;
+    }
+
+    public static OptionalInt parse(String encodedPassword) {
+        if (encodedPassword == null) {
+            return OptionalInt.empty();
+        }
+        Matcher matcher = BCRYPT_HASH.matcher(encodedPassword);
+        return matcher.find() ? OptionalInt.of(Integer.parseInt(matcher.group(1))) : OptionalInt.empty();
+    }
+}
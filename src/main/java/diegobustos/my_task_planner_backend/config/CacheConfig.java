@@ -0,0 +1,35 @@
+package diegobustos.my_task_planner_backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRINCIPALS_CACHE = "principals";
+
+    @Value("${planner.security.principal-cache.ttl:5m}")
+    private Duration principalCacheTtl;
+
+    @Value("${planner.security.principal-cache.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(PRINCIPALS_CACHE, Caffeine.newBuilder()
+                .expireAfterWrite(principalCacheTtl)
+                .maximumSize(principalCacheMaxSize)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,38 @@
+package diegobustos.my_task_planner_backend.config;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+public class JwtAuthentication extends AbstractAuthenticationToken {
+
+    private final AuthenticatedUser principal;
+    private final String tokenId;
+
+    public JwtAuthentication(AuthenticatedUser principal) {
+        this(principal, null);
+    }
+
+    public JwtAuthentication(AuthenticatedUser principal, String tokenId) {
+        super(principal.getAuthorities());
+        this.principal = principal;
+        this.tokenId = tokenId;
+        setAuthenticated(true);
+    }
+
+    public Long getUserId() {
+        return principal.getId();
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    @Override
+    public AuthenticatedUser getPrincipal() {
+        return principal;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+}
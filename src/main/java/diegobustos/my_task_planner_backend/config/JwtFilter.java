@@ -1,15 +1,14 @@
 package diegobustos.my_task_planner_backend.config;
 
-import diegobustos.my_task_planner_backend.service.JwtService;
+import diegobustos.my_task_planner_backend.service.PrincipalCacheService;
+import diegobustos.my_task_planner_backend.service.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -18,8 +17,8 @@ import java.io.IOException;
 @Component
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
-    private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PrincipalCacheService principalCacheService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest req,
@@ -30,13 +29,19 @@ public class JwtFilter extends OncePerRequestFilter {
         String header = req.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
-            if (jwtService.validateToken(token)) {
-                String username = jwtService.extractUsername(token);
-                UserDetails user = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken auth =
-                        new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+            verifiedTokenCache.verify(token).ifPresent(verified -> {
+                AuthenticatedUser user;
+                try {
+                    user = principalCacheService.loadPrincipal(verified.getSubject());
+                } catch (UsernameNotFoundException e) {
+                    // The account was deleted after the token was issued: the request simply stays anonymous.
+                    return;
+                }
+                // Tokens issued before the uid claim existed carry no id; those are trusted by subject until they expire.
+                if (verified.getUserId() == null || verified.getUserId().equals(user.getId())) {
+                    SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(user, verified.getJti()));
+                }
+            });
         }
         chain.doFilter(req, res);
     }
@@ -0,0 +1,48 @@
+package diegobustos.my_task_planner_backend.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatementCounter.JdbcTimingListener.class.getName());
+        };
+    }
+
+    // Registered here rather than as a @Component so MVC slice tests don't pick it up.
+    // Runs outside the security chain so the principal lookup in JwtFilter is counted too.
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(
+            SqlStatementCounter sqlStatementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${planner.sql.stats.response-headers:false}") boolean responseHeaders,
+            @Value("${planner.sql.stats.warn-statements:25}") int warnStatements,
+            @Value("${planner.sql.stats.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration = new FilterRegistrationBean<>(new SqlStatementMetricsFilter(
+                sqlStatementCounter, meterRegistry, responseHeaders, warnStatements, repeatedStatementThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -1,7 +1,12 @@
 package diegobustos.my_task_planner_backend.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,6 +15,7 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -17,7 +23,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -36,6 +44,8 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/v1/auth/**").permitAll()
+                        // Only matches on the management port (management.server.port), which is not published
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, PrometheusScrapeEndpoint.class)).permitAll()
                         .requestMatchers(
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
@@ -66,8 +76,25 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${planner.security.password-hashing.threads:0}") int threads,
+                                           @Value("${planner.security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                           @Value("${planner.security.password-hashing.retry-after:1s}") Duration retryAfter,
+                                           @Value("${planner.security.password-hashing.strength:0}") int fixedStrength,
+                                           @Value("${planner.security.password-hashing.target-latency:250ms}") Duration targetLatency,
+                                           @Value("${planner.security.password-hashing.min-strength:10}") int minStrength,
+                                           @Value("${planner.security.password-hashing.max-strength:14}") int maxStrength) {
+        int strength = fixedStrength > 0 ? fixedStrength : BcryptCost.calibrate(targetLatency, minStrength, maxStrength);
+        Gauge.builder("auth.password.hash.strength", () -> strength).register(meterRegistry);
+
+        // Stored hashes are prefixed with {bcrypt}; the BCrypt hash itself carries its cost, so
+        // upgradeEncoding() flags both unprefixed legacy hashes and hashes below the current cost.
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(encoder, poolSize, queueCapacity, retryAfter, meterRegistry);
     }
 }
 
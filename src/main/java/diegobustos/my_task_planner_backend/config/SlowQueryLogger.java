@@ -0,0 +1,101 @@
+package diegobustos.my_task_planner_backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// Logs statements slower than the threshold, plus a random sample of the rest, with the index and type of
+// each bind parameter and the controller method that issued them. Parameter values (emails, titles, tokens)
+// are only written when logValues is on. Output goes to the "planner.sql.slow" logger, which
+// logback-spring.xml routes through an asynchronous appender.
+@Slf4j(topic = SlowQueryLogger.LOGGER)
+public class SlowQueryLogger implements QueryExecutionListener {
+
+    public static final String LOGGER = "planner.sql.slow";
+
+    private static final String REDACTED = "<redacted>";
+
+    private final long thresholdMillis;
+    private final double sampleRate;
+    private final boolean logValues;
+
+    public SlowQueryLogger(Duration threshold, double sampleRate, boolean logValues) {
+        this.thresholdMillis = threshold.toMillis();
+        this.sampleRate = sampleRate;
+        this.logValues = logValues;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed >= thresholdMillis) {
+            if (log.isWarnEnabled()) {
+                log.warn("Slow query: {} ms (threshold {} ms) from {} {}", elapsed, thresholdMillis, origin(), describe(queryInfoList));
+            }
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate && log.isInfoEnabled()) {
+            log.info("Sampled query: {} ms from {} {}", elapsed, origin(), describe(queryInfoList));
+        }
+    }
+
+    private static String origin() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "thread " + Thread.currentThread().getName();
+        }
+        Object handler = attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            return servlet.getRequest().getMethod() + " " + servlet.getRequest().getRequestURI();
+        }
+        return "unknown";
+    }
+
+    private String describe(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .map(query -> query.getQuery() + " " + query.getParametersList().stream()
+                        .map(this::describeParameters)
+                        .collect(Collectors.joining(", ")))
+                .collect(Collectors.joining("; "));
+    }
+
+    private String describeParameters(List<ParameterSetOperation> operations) {
+        return operations.stream()
+                .filter(operation -> operation.getArgs() != null && operation.getArgs().length > 0)
+                .sorted(Comparator.comparingInt(operation -> operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE))
+                .map(operation -> operation.getArgs()[0] + "=" + describeValue(operation))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    private String describeValue(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation) || operation.getArgs().length < 2) {
+            return "NULL";
+        }
+        Object value = operation.getArgs()[1];
+        if (!logValues) {
+            return value == null ? "NULL" : value.getClass().getSimpleName();
+        }
+        if (value instanceof String text && BcryptCost.parse(text).isPresent()) {
+            return REDACTED;
+        }
+        return String.valueOf(value);
+    }
+}
@@ -0,0 +1,39 @@
+package diegobustos.my_task_planner_backend.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+public class SqlLoggingConfig {
+
+    @Bean
+    public SlowQueryLogger slowQueryLogger(@Value("${planner.sql.slow-query.threshold:200ms}") Duration threshold,
+                                           @Value("${planner.sql.slow-query.sample-rate:0}") double sampleRate,
+                                           @Value("${planner.sql.slow-query.log-values:false}") boolean logValues) {
+        return new SlowQueryLogger(threshold, sampleRate, logValues);
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourceProxy(ObjectProvider<SlowQueryLogger> slowQueryLogger) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(slowQueryLogger.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
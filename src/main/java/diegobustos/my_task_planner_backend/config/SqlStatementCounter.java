@@ -0,0 +1,68 @@
+package diegobustos.my_task_planner_backend.config;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Collects the SQL Hibernate runs on the current thread between start() and stop(). State is
+// thread-bound rather than per instance because Hibernate creates JdbcTimingListener itself.
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statementPrepared(sql);
+        }
+        return sql;
+    }
+
+    public void start() {
+        CURRENT.set(new SqlStatementStats());
+    }
+
+    public SqlStatementStats current() {
+        SqlStatementStats stats = CURRENT.get();
+        return stats == null ? new SqlStatementStats() : stats;
+    }
+
+    public SqlStatementStats stop() {
+        SqlStatementStats stats = current();
+        CURRENT.remove();
+        return stats;
+    }
+
+    // Registered through hibernate.session.events.auto; Hibernate creates one per session.
+    public static class JdbcTimingListener implements SessionEventListener {
+
+        private long startedAt;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            record();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            startedAt = System.nanoTime();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            record();
+        }
+
+        private void record() {
+            SqlStatementStats stats = CURRENT.get();
+            if (stats != null) {
+                stats.statementExecuted(System.nanoTime() - startedAt);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package diegobustos.my_task_planner_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC = "http.server.requests.sql.statements";
+    public static final String JDBC_TIME_METRIC = "http.server.requests.sql.time";
+    public static final String N_PLUS_ONE_METRIC = "http.server.requests.sql.nplusone";
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String JDBC_TIME_HEADER = "X-SQL-Time-Ms";
+
+    private static final int LOGGED_SQL_LENGTH = 200;
+
+    private final SqlStatementCounter sqlStatementCounter;
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaders;
+    private final int warnStatements;
+    private final int repeatedStatementThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req,
+                                    HttpServletResponse res,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        sqlStatementCounter.start();
+        try {
+            chain.doFilter(req, responseHeaders ? new StatsHeaderResponse(res) : res);
+        } finally {
+            SqlStatementStats stats = sqlStatementCounter.stop();
+            if (responseHeaders && !res.isCommitted() && !res.containsHeader(STATEMENTS_HEADER)) {
+                writeHeaders(res, stats);
+            }
+            record(req, stats);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        return req.getRequestURI().startsWith("/actuator/");
+    }
+
+    private void record(HttpServletRequest req, SqlStatementStats stats) {
+        Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", req.getMethod(), "uri", uri);
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("SQL statements prepared while handling a request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(JDBC_TIME_METRIC)
+                .description("Time spent executing SQL while handling a request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcTime());
+
+        if (stats.getStatements() > warnStatements) {
+            log.warn("{} {} ran {} SQL statements ({} ms in JDBC), above the budget of {}",
+                    req.getMethod(), uri, stats.getStatements(), stats.getJdbcTime().toMillis(), warnStatements);
+        }
+        stats.mostRepeated()
+                .filter(repeated -> repeated.getValue() >= repeatedStatementThreshold)
+                .ifPresent(repeated -> {
+                    Counter.builder(N_PLUS_ONE_METRIC).tags(tags).register(meterRegistry).increment();
+                    log.warn("Possible N+1 in {} {}: same statement prepared {} times: {}",
+                            req.getMethod(), uri, repeated.getValue(), abbreviate(repeated));
+                });
+    }
+
+    private static String abbreviate(Map.Entry<String, Integer> repeated) {
+        String sql = repeated.getKey();
+        return sql.length() <= LOGGED_SQL_LENGTH ? sql : sql.substring(0, LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private static void writeHeaders(HttpServletResponse res, SqlStatementStats stats) {
+        res.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+        res.setHeader(JDBC_TIME_HEADER, String.valueOf(stats.getJdbcTime().toMillis()));
+    }
+
+    // Headers can only be added before the body is committed, so they are written at that moment.
+    private class StatsHeaderResponse extends OnCommittedResponseWrapper {
+
+        StatsHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders((HttpServletResponse) getResponse(), sqlStatementCounter.current());
+        }
+    }
+}
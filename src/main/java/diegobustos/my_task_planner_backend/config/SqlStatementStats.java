@@ -0,0 +1,51 @@
+package diegobustos.my_task_planner_backend.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+// SQL activity of one request: statements prepared, time spent executing them, and how often each
+// distinct statement was prepared (the same SELECT repeated many times is the N+1 signature).
+// Id sequence fetches are counted apart: one serves a block of 50 inserts, so whether a request pays for
+// it depends on earlier requests, not on the request itself.
+public class SqlStatementStats {
+
+    // PostgreSQL and H2 renderings of Hibernate's sequence next-value select.
+    private static final Pattern SEQUENCE_FETCH = Pattern.compile("(?i)^select (nextval\\('[^']+'\\)|next value for \\S+)$");
+
+    private final Map<String, Integer> preparedBySql = new HashMap<>();
+    private int statements;
+    private int sequenceFetches;
+    private long jdbcNanos;
+
+    void statementPrepared(String sql) {
+        if (SEQUENCE_FETCH.matcher(sql).matches()) {
+            sequenceFetches++;
+            return;
+        }
+        statements++;
+        preparedBySql.merge(sql, 1, Integer::sum);
+    }
+
+    void statementExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSequenceFetches() {
+        return sequenceFetches;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    public Optional<Map.Entry<String, Integer>> mostRepeated() {
+        return preparedBySql.entrySet().stream().max(Map.Entry.comparingByValue());
+    }
+}
@@ -98,4 +98,54 @@ public class AuthController {
         return ResponseEntity.ok(userService.registerUser(request));
     }
 
+    @Operation(summary = "Restore a deleted account",
+            description = "Reactivates a soft-deleted account, with the boards deleted along with it, and returns a JWT. Possible until the purge removes the account.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Account restored. JWT token returned.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = AuthResponse.class),
+                            examples = @ExampleObject(value = "{\"token\": \"eyJhbGciOiJIUzI1NiIsInR5cCI6...\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid request payload, or the account is not deleted",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Account is not deleted\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "401", description = "Invalid credentials or account not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Invalid email or password\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @PostMapping("/restore")
+    public ResponseEntity<AuthResponse> restore(@Valid @RequestBody AuthRequest request) {
+        return ResponseEntity.ok(userService.restoreUser(request));
+    }
+
+    @Operation(summary = "Log out", description = "Revokes the JWT sent in the Authorization header. Requests without a valid token are a no-op.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked"),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout() {
+        authService.logout();
+        return ResponseEntity.noContent().build();
+    }
+
 }
@@ -2,6 +2,7 @@ package diegobustos.my_task_planner_backend.controller;
 
 import diegobustos.my_task_planner_backend.dto.BoardRequest;
 import diegobustos.my_task_planner_backend.dto.BoardResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
 import diegobustos.my_task_planner_backend.service.BoardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -105,6 +106,52 @@ public class BoardController {
         return ResponseEntity.ok(boardService.getAllBoards(page, size));
     }
 
+    @Operation(
+            summary = "Get boards by cursor",
+            description = "Retrieves the authenticated user's boards newest first using keyset pagination. " +
+                    "Send an empty cursor for the first slice and the returned nextCursor for the following ones.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Boards retrieved successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Invalid cursor\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "User not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"User not found\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @GetMapping(value = "/me", params = "cursor")
+    public ResponseEntity<CursorPageResponse<BoardResponse>> getBoardsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(boardService.getBoardsByCursor(cursor, size));
+    }
+
     @Operation(
             summary = "Update board by Id",
             description = "Updates a board by its ID for the authenticated user.",
@@ -181,4 +228,39 @@ public class BoardController {
         boardService.deleteBoard(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Restore board by Id",
+            description = "Restores a deleted board of the authenticated user together with the tasks, items and memberships " +
+                    "that were deleted with it. Tasks and items deleted on their own before stay deleted.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Board restored successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BoardResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Deleted board not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Board not found\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<BoardResponse> restoreBoard(@PathVariable Long id) {
+        return ResponseEntity.ok(boardService.restoreBoard(id));
+    }
 }
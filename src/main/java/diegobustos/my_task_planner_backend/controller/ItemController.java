@@ -1,5 +1,6 @@
 package diegobustos.my_task_planner_backend.controller;
 
+import diegobustos.my_task_planner_backend.dto.BulkItemRequest;
 import diegobustos.my_task_planner_backend.dto.ItemRequest;
 import diegobustos.my_task_planner_backend.dto.TaskResponse;
 import diegobustos.my_task_planner_backend.service.ItemService;
@@ -68,6 +69,52 @@ public class ItemController {
         return ResponseEntity.ok(itemService.createItem(id, request));
     }
 
+    @Operation(
+            summary = "Create Items in bulk",
+            description = "Creates up to " + BulkItemRequest.MAX_ITEMS + " items in the specified task in one request, " +
+                    "for example a pasted checklist, and returns the task once.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Items created successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TaskResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request payload (e.g., empty or oversized list, blank titles).",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"items[0].title\": \"Title is required\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Task not found\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @PostMapping("/{id}/bulk")
+    public ResponseEntity<TaskResponse> createItems(
+            @PathVariable Long id,
+            @RequestBody @Valid BulkItemRequest request
+    ) {
+        return ResponseEntity.ok(itemService.createItems(id, request.getItems()));
+    }
+
     @Operation(
             summary = "Update Item by Id",
             description = "Updates a Item by its ID",
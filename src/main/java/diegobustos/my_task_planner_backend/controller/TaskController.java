@@ -1,5 +1,8 @@
 package diegobustos.my_task_planner_backend.controller;
 
+import diegobustos.my_task_planner_backend.dto.BulkTaskResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
+import diegobustos.my_task_planner_backend.dto.MoveTasksRequest;
 import diegobustos.my_task_planner_backend.dto.TaskRequest;
 import diegobustos.my_task_planner_backend.dto.TaskResponse;
 import diegobustos.my_task_planner_backend.service.TaskService;
@@ -106,6 +109,54 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getAllTasks(id));
     }
 
+    @Operation(
+            summary = "Get tasks for a board by cursor",
+            description = "Retrieves the tasks of the specified board newest first using keyset pagination, " +
+                    "optionally filtered by completion. Send an empty cursor for the first slice and the returned nextCursor for the following ones.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tasks retrieved successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = CursorPageResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Invalid cursor\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Board not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Board not found\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @GetMapping(value = "/{id}", params = "cursor")
+    public ResponseEntity<CursorPageResponse<TaskResponse>> getTasksByCursor(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Boolean completed
+    ) {
+        return ResponseEntity.ok(taskService.getTasksByCursor(id, cursor, size, completed));
+    }
+
     @Operation(
             summary = "Update task by Id",
             description = "Updates a tasks by its ID",
@@ -219,4 +270,121 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Complete all tasks of a board",
+            description = "Marks every open task of the specified board as completed and returns how many tasks changed.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tasks completed successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkTaskResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Board not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Board not found\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @PatchMapping("/{id}/complete-all")
+    public ResponseEntity<BulkTaskResponse> completeAllTasks(
+            @PathVariable Long id
+    ) {
+        return ResponseEntity.ok(taskService.completeAllTasks(id));
+    }
+
+    @Operation(
+            summary = "Delete completed tasks of a board",
+            description = "Deletes every completed task of the specified board and returns how many tasks were deleted.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Completed tasks deleted successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkTaskResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Board not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Board not found\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @DeleteMapping("/{id}/completed")
+    public ResponseEntity<BulkTaskResponse> deleteCompletedTasks(
+            @PathVariable Long id
+    ) {
+        return ResponseEntity.ok(taskService.deleteCompletedTasks(id));
+    }
+
+    @Operation(
+            summary = "Move tasks to another board",
+            description = "Moves up to " + MoveTasksRequest.MAX_TASKS + " tasks to the target board. " +
+                    "Tasks that do not exist or belong to boards the user cannot access are skipped and not counted.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tasks moved successfully.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = BulkTaskResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request payload (e.g., empty or oversized task list, missing target board).",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"taskIds\": \"At least one task is required\"}")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Board not found.",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"Board not found\"}")
+                    )
+            ),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = "{\"message\": \"An unexpected error occurred\"}")
+                    )
+            )
+    })
+    @PatchMapping("/move")
+    public ResponseEntity<BulkTaskResponse> moveTasks(
+            @RequestBody @Valid MoveTasksRequest request
+    ) {
+        return ResponseEntity.ok(taskService.moveTasks(request));
+    }
 }
@@ -0,0 +1,24 @@
+package diegobustos.my_task_planner_backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkItemRequest {
+
+    public static final int MAX_ITEMS = 100;
+
+    @Schema(description = "Items to add to the task, in order.", required = true)
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " items per request")
+    private List<@Valid ItemRequest> items;
+}
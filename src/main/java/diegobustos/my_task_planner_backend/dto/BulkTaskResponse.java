@@ -0,0 +1,16 @@
+package diegobustos.my_task_planner_backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTaskResponse {
+    @Schema(description = "Number of tasks changed by the operation.", example = "12")
+    private int affected;
+}
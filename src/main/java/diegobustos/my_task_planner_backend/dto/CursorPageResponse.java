@@ -0,0 +1,41 @@
+package diegobustos.my_task_planner_backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private static final int MAX_SIZE = 100;
+
+    @Schema(description = "Elements of the current slice.")
+    private List<T> content;
+
+    @Schema(description = "Opaque cursor to request the next slice, null when there are no more elements.", example = "MjAyNS0wNS0wMVQxMjozMDowMFp8NDI")
+    private String nextCursor;
+
+    @Schema(description = "Whether another slice is available.", example = "true")
+    private boolean hasNext;
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    public static <E, T> CursorPageResponse<T> fromRows(List<E> rows, int size, Function<List<E>, List<T>> mapper, Function<E, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(mapper.apply(page))
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
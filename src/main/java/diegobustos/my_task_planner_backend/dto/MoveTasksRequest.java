@@ -0,0 +1,28 @@
+package diegobustos.my_task_planner_backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoveTasksRequest {
+
+    public static final int MAX_TASKS = 500;
+
+    @Schema(description = "IDs of the tasks to move.", example = "[1, 2, 3]", required = true)
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = MAX_TASKS, message = "At most " + MAX_TASKS + " tasks per request")
+    private List<@NotNull(message = "Task ID is required") Long> taskIds;
+
+    @Schema(description = "Board the tasks are moved to.", example = "2", required = true)
+    @NotNull(message = "Target board is required")
+    private Long targetBoardId;
+}
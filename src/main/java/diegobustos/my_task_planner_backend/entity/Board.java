@@ -18,7 +18,8 @@ import java.util.List;
 @Builder
 public class Board extends AuditableEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
     @Schema(description = "Board ID.", example = "1")
     private Long id;
 
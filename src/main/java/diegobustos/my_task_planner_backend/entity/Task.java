@@ -4,6 +4,7 @@ import diegobustos.my_task_planner_backend.entity.common.AuditableEntity;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -15,7 +16,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 public class Task extends AuditableEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     @Schema(description = "Task ID.", example = "1")
     private Long id;
 
@@ -31,4 +33,14 @@ public class Task extends AuditableEntity {
     @Column(nullable = false)
     @Schema(description = "Indicates whether the task is completed.", example = "false")
     private boolean completed;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Schema(description = "Number of live items in the task.", example = "3")
+    private int totalItems;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Schema(description = "Number of live items in the task that are checked.", example = "2")
+    private int checkedItems;
 }
@@ -16,7 +16,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class UserBoard extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_board_seq")
+    @SequenceGenerator(name = "user_board_seq", sequenceName = "user_board_seq", allocationSize = 50)
     @Schema(description = "Intermediate class ID.", example = "1")
     private Long id;
 
@@ -1,20 +1,51 @@
 package diegobustos.my_task_planner_backend.repository;
 
 import diegobustos.my_task_planner_backend.entity.Board;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
-    @Query("SELECT b FROM Board b JOIN b.users ub WHERE ub.user.email = :email AND b.deletedAt IS NULL ORDER BY b.createdAt DESC")
-    Page<Board> findByUserEmail(String email, Pageable pageable);
+    @Query("SELECT b FROM Board b JOIN b.users ub WHERE ub.user.id = :userId AND ub.deletedAt IS NULL AND b.deletedAt IS NULL ORDER BY b.createdAt DESC, b.id DESC")
+    Page<Board> findByUserId(Long userId, Pageable pageable);
 
-    @Query("SELECT b FROM Board b JOIN b.users ub WHERE ub.user.email = :email AND b.id = :boardId AND b.deletedAt IS NULL")
-    Optional<Board> findByUserEmailAndBoardIdAndDeletedAtIsNull(String email, Long boardId);
+    @Query("SELECT b FROM Board b JOIN b.users ub WHERE ub.user.id = :userId AND ub.deletedAt IS NULL AND b.deletedAt IS NULL ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findFirstSliceByUserId(Long userId, Limit limit);
 
+    @Query("SELECT b FROM Board b JOIN b.users ub WHERE ub.user.id = :userId AND ub.deletedAt IS NULL AND b.deletedAt IS NULL " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id)) ORDER BY b.createdAt DESC, b.id DESC")
+    List<Board> findSliceByUserIdAfter(Long userId, Instant createdAt, Long id, Limit limit);
+
+    @Query("SELECT b FROM Board b JOIN b.users ub WHERE ub.user.id = :userId AND ub.deletedAt IS NULL AND b.id = :boardId AND b.deletedAt IS NULL")
+    Optional<Board> findByUserIdAndBoardIdAndDeletedAtIsNull(Long userId, Long boardId);
+
+    // The cascade stamps the memberships with the board's deletedAt; one the user had left before does not count
+    @Query("SELECT b FROM Board b JOIN b.users ub WHERE ub.user.id = :userId AND b.id = :boardId AND b.deletedAt IS NOT NULL " +
+            "AND (ub.deletedAt IS NULL OR ub.deletedAt = b.deletedAt)")
+    Optional<Board> findDeletedByUserIdAndBoardId(Long userId, Long boardId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board b SET b.deletedAt = :deletedAt, b.updatedAt = :deletedAt WHERE b.id IN :boardIds AND b.deletedAt IS NULL")
+    int softDeleteByIds(Collection<Long> boardIds, Instant deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Board b SET b.deletedAt = NULL, b.updatedAt = :now WHERE b.id IN :boardIds AND b.deletedAt = :deletedAt")
+    int restoreByIds(Collection<Long> boardIds, Instant deletedAt, Instant now);
+
+    @Query("SELECT b.id FROM Board b WHERE b.deletedAt < :cutoff ORDER BY b.id")
+    List<Long> findIdsDeletedBefore(Instant cutoff, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Board b WHERE b.id IN :boardIds")
+    int purgeByIds(Collection<Long> boardIds);
 }
@@ -1,13 +1,62 @@
 package diegobustos.my_task_planner_backend.repository;
 
 import diegobustos.my_task_planner_backend.entity.Item;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
 
     Optional<Item> findByIdAndDeletedAtIsNull(Long id);
+
+    // Explicit queries: the derived versions join task to read task.id, which hides item.task_id from its index.
+    @Query("SELECT i FROM Item i WHERE i.task.id = :taskId AND i.deletedAt IS NULL")
     List<Item> findByTaskIdAndDeletedAtIsNull(Long taskId);
+
+    @Query("SELECT i FROM Item i WHERE i.task.id IN :taskIds AND i.deletedAt IS NULL")
+    List<Item> findByTaskIdInAndDeletedAtIsNull(Collection<Long> taskIds);
+
+    @Query("SELECT i FROM Item i JOIN FETCH i.task t JOIN t.board b JOIN b.users ub WHERE i.id = :itemId AND i.deletedAt IS NULL AND t.deletedAt IS NULL AND b.deletedAt IS NULL AND ub.user.id = :userId AND ub.deletedAt IS NULL")
+    Optional<Item> findAccessibleByIdAndUserId(Long itemId, Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i SET i.itemChecked = CASE WHEN i.itemChecked = true THEN false ELSE true END, i.updatedAt = :now WHERE i.id = :itemId AND i.deletedAt IS NULL")
+    int toggleChecked(Long itemId, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i SET i.itemChecked = true, i.updatedAt = :now WHERE i.itemChecked = false AND i.deletedAt IS NULL AND i.task.id IN " +
+            "(SELECT t.id FROM Task t WHERE t.board.id = :boardId AND t.completed = false AND t.deletedAt IS NULL)")
+    int checkAllOfOpenTasksByBoardId(Long boardId, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i SET i.deletedAt = :now, i.updatedAt = :now WHERE i.id = :itemId AND i.deletedAt IS NULL")
+    int softDelete(Long itemId, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i SET i.deletedAt = :deletedAt, i.updatedAt = :deletedAt WHERE i.task.id IN :taskIds AND i.deletedAt IS NULL")
+    int softDeleteByTaskIds(Collection<Long> taskIds, Instant deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Item i SET i.deletedAt = NULL, i.updatedAt = :now WHERE i.task.id IN :taskIds AND i.deletedAt = :deletedAt")
+    int restoreByTaskIds(Collection<Long> taskIds, Instant deletedAt, Instant now);
+
+    @Query("SELECT i.itemChecked FROM Item i WHERE i.id = :itemId")
+    boolean findItemCheckedById(Long itemId);
+
+    @Query("SELECT i.id FROM Item i WHERE i.deletedAt < :cutoff ORDER BY i.id")
+    List<Long> findIdsDeletedBefore(Instant cutoff, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Item i WHERE i.id IN :itemIds")
+    int purgeByIds(Collection<Long> itemIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Item i WHERE i.task.id IN :taskIds")
+    int purgeByTaskIds(Collection<Long> taskIds);
 }
@@ -0,0 +1,26 @@
+package diegobustos.my_task_planner_backend.repository;
+
+import diegobustos.my_task_planner_backend.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLock l SET l.lockedUntil = :until, l.lockedAt = :now, l.lockedBy = :owner WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquireIfExpired(String name, String owner, Instant now, Instant until);
+
+    // A plain INSERT, unlike save() (a merge: SELECT, then INSERT or UPDATE), fails on the primary key if another node got there first
+    @Modifying
+    @Query(value = "INSERT INTO job_lock (name, locked_until, locked_at, locked_by) VALUES (:name, :until, :now, :owner)", nativeQuery = true)
+    int insert(String name, String owner, Instant now, Instant until);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE JobLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(String name, String owner, Instant now);
+}
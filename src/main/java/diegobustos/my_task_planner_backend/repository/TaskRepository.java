@@ -1,8 +1,14 @@
 package diegobustos.my_task_planner_backend.repository;
 
+import diegobustos.my_task_planner_backend.entity.Board;
 import diegobustos.my_task_planner_backend.entity.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,4 +17,78 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     Optional<Task> findByIdAndDeletedAtIsNull(Long id);
 
     List<Task> findByBoardIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long id);
+
+    @Query("SELECT t FROM Task t WHERE t.board.id = :boardId AND t.deletedAt IS NULL " +
+            "AND (:completed IS NULL OR t.completed = :completed) ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findFirstSliceByBoardId(Long boardId, Boolean completed, Limit limit);
+
+    @Query("SELECT t FROM Task t WHERE t.board.id = :boardId AND t.deletedAt IS NULL " +
+            "AND (:completed IS NULL OR t.completed = :completed) " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findSliceByBoardIdAfter(Long boardId, Boolean completed, Instant createdAt, Long id, Limit limit);
+
+    @Query("SELECT t FROM Task t JOIN t.board b JOIN b.users ub WHERE t.id = :taskId AND t.deletedAt IS NULL AND b.deletedAt IS NULL AND ub.user.id = :userId AND ub.deletedAt IS NULL")
+    Optional<Task> findAccessibleByIdAndUserId(Long taskId, Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.completed = CASE WHEN t.completed = true THEN false ELSE true END, t.updatedAt = :now WHERE t.id = :taskId AND t.deletedAt IS NULL")
+    int toggleCompleted(Long taskId, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.completed = true, t.checkedItems = t.totalItems, t.updatedAt = :now WHERE t.board.id = :boardId AND t.completed = false AND t.deletedAt IS NULL")
+    int completeAllByBoardId(Long boardId, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deletedAt = :now, t.updatedAt = :now WHERE t.board.id = :boardId AND t.completed = true AND t.deletedAt IS NULL")
+    int softDeleteCompletedByBoardId(Long boardId, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.board = :target, t.updatedAt = :now WHERE t.id IN :taskIds AND t.deletedAt IS NULL AND t.board.id IN " +
+            "(SELECT ub.board.id FROM UserBoard ub WHERE ub.user.id = :userId AND ub.deletedAt IS NULL AND ub.board.deletedAt IS NULL)")
+    int moveAccessibleToBoard(Collection<Long> taskIds, Long userId, Board target, Instant now);
+
+    @Query("SELECT t.id FROM Task t WHERE t.board.id IN :boardIds AND t.deletedAt IS NULL ORDER BY t.id")
+    List<Long> findLiveIdsByBoardIds(Collection<Long> boardIds, Limit limit);
+
+    @Query("SELECT t.id FROM Task t WHERE t.board.id IN :boardIds AND t.deletedAt = :deletedAt ORDER BY t.id")
+    List<Long> findIdsByBoardIdsDeletedAt(Collection<Long> boardIds, Instant deletedAt, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deletedAt = :deletedAt, t.updatedAt = :deletedAt WHERE t.id IN :taskIds AND t.deletedAt IS NULL")
+    int softDeleteByIds(Collection<Long> taskIds, Instant deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deletedAt = NULL, t.updatedAt = :now WHERE t.id IN :taskIds AND t.deletedAt = :deletedAt")
+    int restoreByIds(Collection<Long> taskIds, Instant deletedAt, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.totalItems = t.totalItems + :totalDelta, t.checkedItems = t.checkedItems + :checkedDelta, " +
+            "t.completed = CASE WHEN t.totalItems + :totalDelta > 0 AND t.checkedItems + :checkedDelta = t.totalItems + :totalDelta THEN true ELSE false END, " +
+            "t.updatedAt = :now WHERE t.id = :taskId")
+    int adjustItemCounters(Long taskId, int totalDelta, int checkedDelta, Instant now);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id > :afterId AND t.deletedAt IS NULL ORDER BY t.id")
+    List<Long> findLiveIdsAfter(Long afterId, Limit limit);
+
+    String LIVE_ITEMS = "(SELECT COUNT(i) FROM Item i WHERE i.task = t AND i.deletedAt IS NULL)";
+    String CHECKED_ITEMS = "(SELECT COUNT(i) FROM Item i WHERE i.task = t AND i.deletedAt IS NULL AND i.itemChecked = true)";
+
+    // completed follows the counters as in adjustItemCounters; a task without items keeps the flag it was toggled to
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.totalItems = " + LIVE_ITEMS + ", t.checkedItems = " + CHECKED_ITEMS + ", " +
+            "t.completed = CASE WHEN " + LIVE_ITEMS + " = 0 THEN t.completed WHEN " + CHECKED_ITEMS + " = " + LIVE_ITEMS + " THEN true ELSE false END " +
+            "WHERE t.id IN :taskIds AND t.deletedAt IS NULL AND (" +
+            "t.totalItems <> " + LIVE_ITEMS + " OR t.checkedItems <> " + CHECKED_ITEMS + " OR " +
+            "(" + LIVE_ITEMS + " > 0 AND t.completed <> CASE WHEN " + CHECKED_ITEMS + " = " + LIVE_ITEMS + " THEN true ELSE false END))")
+    int rebuildItemCounters(Collection<Long> taskIds);
+
+    @Query("SELECT t.id FROM Task t WHERE t.deletedAt < :cutoff ORDER BY t.id")
+    List<Long> findIdsDeletedBefore(Instant cutoff, Limit limit);
+
+    @Query("SELECT t.id FROM Task t WHERE t.board.id IN :boardIds ORDER BY t.id")
+    List<Long> findIdsByBoardIds(Collection<Long> boardIds, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds")
+    int purgeByIds(Collection<Long> taskIds);
 }
@@ -1,9 +1,50 @@
 package diegobustos.my_task_planner_backend.repository;
 
 import diegobustos.my_task_planner_backend.entity.UserBoard;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface UserBoardRepository extends JpaRepository<UserBoard, Long> {
+
+    @Query("SELECT ub.board.id FROM UserBoard ub WHERE ub.user.id = :userId AND ub.deletedAt IS NULL AND ub.board.deletedAt IS NULL " +
+            "AND NOT EXISTS (SELECT o FROM UserBoard o WHERE o.board = ub.board AND o.user.id <> :userId AND o.deletedAt IS NULL)")
+    List<Long> findLiveBoardIdsOnlyMemberIs(Long userId);
+
+    @Query("SELECT ub.board.id FROM UserBoard ub WHERE ub.user.id = :userId AND ub.deletedAt = :deletedAt AND ub.board.deletedAt = :deletedAt")
+    List<Long> findBoardIdsDeletedWithUser(Long userId, Instant deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserBoard ub SET ub.deletedAt = :deletedAt, ub.updatedAt = :deletedAt WHERE ub.board.id IN :boardIds AND ub.deletedAt IS NULL")
+    int softDeleteByBoardIds(Collection<Long> boardIds, Instant deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserBoard ub SET ub.deletedAt = :deletedAt, ub.updatedAt = :deletedAt WHERE ub.user.id = :userId AND ub.deletedAt IS NULL")
+    int softDeleteByUserId(Long userId, Instant deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserBoard ub SET ub.deletedAt = NULL, ub.updatedAt = :now WHERE ub.board.id IN :boardIds AND ub.deletedAt = :deletedAt")
+    int restoreByBoardIds(Collection<Long> boardIds, Instant deletedAt, Instant now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserBoard ub SET ub.deletedAt = NULL, ub.updatedAt = :now WHERE ub.user.id = :userId AND ub.deletedAt = :deletedAt")
+    int restoreByUserId(Long userId, Instant deletedAt, Instant now);
+
+    @Query("SELECT ub.id FROM UserBoard ub WHERE ub.deletedAt < :cutoff ORDER BY ub.id")
+    List<Long> findIdsDeletedBefore(Instant cutoff, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserBoard ub WHERE ub.id IN :userBoardIds")
+    int purgeByIds(Collection<Long> userBoardIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM UserBoard ub WHERE ub.board.id IN :boardIds")
+    int purgeByBoardIds(Collection<Long> boardIds);
 }
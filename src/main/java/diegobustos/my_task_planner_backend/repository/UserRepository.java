@@ -2,9 +2,15 @@ package diegobustos.my_task_planner_backend.repository;
 
 
 import diegobustos.my_task_planner_backend.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +18,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByEmailAndDeletedAtIsNull(String email);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword, u.updatedAt = :now WHERE u.id = :userId AND u.password = :oldPassword")
+    int replacePassword(Long userId, String oldPassword, String newPassword, Instant now);
+
+    // Memberships are purged first; a deleted user still referenced by one waits for the next run
+    @Query("SELECT u.id FROM User u WHERE u.deletedAt < :cutoff AND NOT EXISTS (SELECT ub FROM UserBoard ub WHERE ub.user = u) ORDER BY u.id")
+    List<Long> findIdsDeletedBeforeWithoutBoards(Instant cutoff, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id IN :userIds")
+    int purgeByIds(Collection<Long> userIds);
 }
@@ -1,32 +1,55 @@
 package diegobustos.my_task_planner_backend.service;
 
+import diegobustos.my_task_planner_backend.config.BcryptCost;
+import diegobustos.my_task_planner_backend.config.JwtAuthentication;
 import diegobustos.my_task_planner_backend.dto.AuthRequest;
 import diegobustos.my_task_planner_backend.dto.AuthResponse;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import diegobustos.my_task_planner_backend.config.AuthenticatedUser;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
 @Component
+@Timed("service.method")
 public class AuthService {
 
+    public static final String LOGIN_COST_METRIC = "auth.login.hash.cost";
+
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final UserDetailsServiceImpl userDetailsService;
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MeterRegistry meterRegistry;
 
     public AuthResponse login(AuthRequest req) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(req.getEmail());
+        AuthenticatedUser user = userDetailsService.loadUserByUsername(req.getEmail());
 
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword())
         );
 
+        BcryptCost.parse(user.getPassword()).ifPresent(cost ->
+                DistributionSummary.builder(LOGIN_COST_METRIC)
+                        .description("BCrypt cost of the stored hash verified at login")
+                        .register(meterRegistry)
+                        .record(cost));
 
-        String token = jwtService.generateToken(userDetails.getUsername());
+        String token = jwtService.generateToken(user.getUsername(), user.getId());
 
         return new AuthResponse(token);
     }
+
+    public void logout() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof JwtAuthentication jwt && jwt.getTokenId() != null) {
+            verifiedTokenCache.revoke(jwt.getTokenId());
+        }
+    }
 }
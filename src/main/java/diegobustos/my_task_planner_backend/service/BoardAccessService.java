@@ -0,0 +1,48 @@
+package diegobustos.my_task_planner_backend.service;
+
+import diegobustos.my_task_planner_backend.config.JwtAuthentication;
+import diegobustos.my_task_planner_backend.entity.Board;
+import diegobustos.my_task_planner_backend.entity.Item;
+import diegobustos.my_task_planner_backend.entity.Task;
+import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
+import diegobustos.my_task_planner_backend.exception.TaskNotFoundException;
+import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Timed("service.method")
+public class BoardAccessService {
+
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final ItemRepository itemRepository;
+
+    public Board getAccessibleBoard(Long boardId) {
+        return boardRepository.findByUserIdAndBoardIdAndDeletedAtIsNull(currentUserId(), boardId)
+                .orElseThrow(() -> new BoardNotFoundException("Board not found"));
+    }
+
+    public Task getAccessibleTask(Long taskId) {
+        return taskRepository.findAccessibleByIdAndUserId(taskId, currentUserId())
+                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+    }
+
+    public Item getAccessibleItem(Long itemId) {
+        return itemRepository.findAccessibleByIdAndUserId(itemId, currentUserId())
+                .orElseThrow(() -> new TaskNotFoundException("Item not found"));
+    }
+
+    public Long currentUserId() {
+        if (SecurityContextHolder.getContext().getAuthentication() instanceof JwtAuthentication authentication) {
+            return authentication.getUserId();
+        }
+        throw new UserNotFoundException("User not found");
+    }
+}
@@ -2,35 +2,41 @@ package diegobustos.my_task_planner_backend.service;
 
 import diegobustos.my_task_planner_backend.dto.BoardRequest;
 import diegobustos.my_task_planner_backend.dto.BoardResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
+import diegobustos.my_task_planner_backend.dto.PageCursor;
 import diegobustos.my_task_planner_backend.entity.Board;
 import diegobustos.my_task_planner_backend.entity.User;
 import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
 import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
 import diegobustos.my_task_planner_backend.repository.BoardRepository;
 import diegobustos.my_task_planner_backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class BoardService {
 
     private final UserRepository userRepository;
     private final UserBoardService userBoardService;
     private final BoardRepository boardRepository;
+    private final BoardAccessService boardAccessService;
+    private final SoftDeleteService softDeleteService;
 
 
     @Transactional
     public BoardResponse createBoard(BoardRequest request){
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(boardAccessService.currentUserId())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
         Board board = Board.builder()
@@ -45,18 +51,35 @@ public class BoardService {
     }
 
     public Page<BoardResponse> getAllBoards(int page, int size) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        Long userId = boardAccessService.currentUserId();
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Board> boards = boardRepository.findByUserEmail(email, pageable);
+        Page<Board> boards = boardRepository.findByUserId(userId, pageable);
         return boards.map(BoardResponse::fromEntity);
     }
 
+    public CursorPageResponse<BoardResponse> getBoardsByCursor(String cursor, int size) {
+        Long userId = boardAccessService.currentUserId();
+
+        int sliceSize = CursorPageResponse.clampSize(size);
+        Limit limit = Limit.of(sliceSize + 1);
+
+        List<Board> boards;
+        if (cursor == null || cursor.isBlank()) {
+            boards = boardRepository.findFirstSliceByUserId(userId, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            boards = boardRepository.findSliceByUserIdAfter(userId, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        return CursorPageResponse.fromRows(boards, sliceSize,
+                page -> page.stream().map(BoardResponse::fromEntity).toList(),
+                board -> new PageCursor(board.getCreatedAt(), board.getId()));
+    }
+
     public BoardResponse updateBoard(Long boardId, BoardRequest request) {
-        Board board = validateAccessAndGetBoard(boardId);
+        Board board = boardAccessService.getAccessibleBoard(boardId);
 
         board.setTitle(request.getTitle());
         boardRepository.save(board);
@@ -65,20 +88,22 @@ public class BoardService {
     }
 
     public void deleteBoard(Long boardId) {
-        Board board = validateAccessAndGetBoard(boardId);
+        Board board = boardAccessService.getAccessibleBoard(boardId);
 
-        board.setDeletedAt(Instant.now());
+        Instant deletedAt = SoftDeleteService.deletionTimestamp();
+        board.setDeletedAt(deletedAt);
         boardRepository.save(board);
-    }
 
-    private Board validateAccessAndGetBoard(Long id) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        softDeleteService.cascadeBoardDeletion(List.of(board.getId()), deletedAt);
+    }
 
-        Board board = boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, id)
+    public BoardResponse restoreBoard(Long boardId) {
+        Board board = boardRepository.findDeletedByUserIdAndBoardId(boardAccessService.currentUserId(), boardId)
                 .orElseThrow(() -> new BoardNotFoundException("Board not found"));
 
-        return board;
+        softDeleteService.restoreBoards(List.of(board.getId()), board.getDeletedAt());
+
+        board.setDeletedAt(null);
+        return BoardResponse.fromEntity(board);
     }
 }
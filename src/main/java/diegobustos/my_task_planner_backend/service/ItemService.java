@@ -2,20 +2,14 @@ package diegobustos.my_task_planner_backend.service;
 
 import diegobustos.my_task_planner_backend.dto.ItemRequest;
 import diegobustos.my_task_planner_backend.dto.TaskResponse;
-import diegobustos.my_task_planner_backend.entity.Board;
 import diegobustos.my_task_planner_backend.entity.Item;
 import diegobustos.my_task_planner_backend.entity.Task;
-import diegobustos.my_task_planner_backend.entity.User;
-import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
 import diegobustos.my_task_planner_backend.exception.TaskNotFoundException;
-import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
-import diegobustos.my_task_planner_backend.repository.BoardRepository;
 import diegobustos.my_task_planner_backend.repository.ItemRepository;
 import diegobustos.my_task_planner_backend.repository.TaskRepository;
-import diegobustos.my_task_planner_backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -23,18 +17,18 @@ import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class ItemService {
 
-    private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
-    private final BoardRepository boardRepository;
     private final ItemRepository itemRepository;
+    private final TaskRepository taskRepository;
     private final TaskService taskService;
+    private final BoardAccessService boardAccessService;
 
     @Transactional
     public TaskResponse createItem(Long taskId, ItemRequest request){
 
-        Task task = validateAccessAndGetTask(taskId);
+        Task task = boardAccessService.getAccessibleTask(taskId);
 
         Item item = Item.builder()
                 .title(request.getTitle())
@@ -43,71 +37,67 @@ public class ItemService {
 
         itemRepository.save(item);
 
-        updateTaskCompletionStatus(task);
-
-        return taskService.mapTaskToResponse(task);
+        return updateTaskCounters(task.getId(), 1, 0);
     }
 
-    public TaskResponse updateItem(Long itemId, ItemRequest request){
-        Item item = itemRepository.findByIdAndDeletedAtIsNull(itemId)
-                .orElseThrow(() -> new TaskNotFoundException("Item not found"));
+    // One access check, one batched insert and one counter update for the whole list.
+    @Transactional
+    public TaskResponse createItems(Long taskId, List<ItemRequest> requests) {
 
-        Task task = validateAccessAndGetTask(item.getTask().getId());
+        Task task = boardAccessService.getAccessibleTask(taskId);
 
-        item.setTitle(request.getTitle());
-        itemRepository.save(item);
+        List<Item> items = requests.stream()
+                .map(request -> Item.builder()
+                        .title(request.getTitle())
+                        .task(task)
+                        .build())
+                .toList();
 
-        return taskService.mapTaskToResponse(task);
-    }
+        itemRepository.saveAll(items);
 
-    public TaskResponse toggleItemCompletion(Long itemId) {
-        Item item = itemRepository.findByIdAndDeletedAtIsNull(itemId)
-                .orElseThrow(() -> new TaskNotFoundException("Item not found"));
+        return updateTaskCounters(task.getId(), items.size(), 0);
+    }
 
-        Task task = validateAccessAndGetTask(item.getTask().getId());
+    public TaskResponse updateItem(Long itemId, ItemRequest request){
+        Item item = boardAccessService.getAccessibleItem(itemId);
+        Task task = item.getTask();
 
-        item.setItemChecked(!item.isItemChecked());
+        item.setTitle(request.getTitle());
         itemRepository.save(item);
 
-        updateTaskCompletionStatus(task);
-
         return taskService.mapTaskToResponse(task);
     }
 
-    public TaskResponse deleteItem(Long itemId) {
-        Item item = itemRepository.findByIdAndDeletedAtIsNull(itemId)
-                .orElseThrow(() -> new TaskNotFoundException("Item not found"));
-
-        Task task = validateAccessAndGetTask(item.getTask().getId());
-
-        item.setDeletedAt(Instant.now());
-        itemRepository.save(item);
+    @Transactional
+    public TaskResponse toggleItemCompletion(Long itemId) {
+        Long taskId = boardAccessService.getAccessibleItem(itemId).getTask().getId();
 
-        updateTaskCompletionStatus(task);
+        if (itemRepository.toggleChecked(itemId, Instant.now()) == 0) {
+            throw new TaskNotFoundException("Item not found");
+        }
+        boolean checked = itemRepository.findItemCheckedById(itemId);
 
-        return taskService.mapTaskToResponse(task);
+        return updateTaskCounters(taskId, 0, checked ? 1 : -1);
     }
 
-    private void updateTaskCompletionStatus(Task task) {
-        List<Item> items = itemRepository.findByTaskIdAndDeletedAtIsNull(task.getId());
-        boolean allItemsChecked = !items.isEmpty() && items.stream().allMatch(Item::isItemChecked);
+    @Transactional
+    public TaskResponse deleteItem(Long itemId) {
+        Long taskId = boardAccessService.getAccessibleItem(itemId).getTask().getId();
 
-        if (task.isCompleted() != allItemsChecked) {
-            taskService.toggleTaskCompletion(task.getId());
+        if (itemRepository.softDelete(itemId, Instant.now()) == 0) {
+            throw new TaskNotFoundException("Item not found");
         }
+        boolean checked = itemRepository.findItemCheckedById(itemId);
+
+        return updateTaskCounters(taskId, -1, checked ? -1 : 0);
     }
 
-    private Task validateAccessAndGetTask(Long id) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+    private TaskResponse updateTaskCounters(Long taskId, int totalDelta, int checkedDelta) {
+        taskRepository.adjustItemCounters(taskId, totalDelta, checkedDelta, Instant.now());
 
-        Task task = taskRepository.findByIdAndDeletedAtIsNull(id)
+        Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
 
-        Board board = boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, task.getBoard().getId())
-                .orElseThrow(() -> new BoardNotFoundException("Board not found"));
-
-        return task;
+        return taskService.mapTaskToResponse(task);
     }
 }
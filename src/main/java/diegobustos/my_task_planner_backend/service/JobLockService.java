@@ -0,0 +1,50 @@
+package diegobustos.my_task_planner_backend.service;
+
+import diegobustos.my_task_planner_backend.repository.JobLockRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+
+// Cluster-wide lock for background jobs, kept as one row per job in job_lock. Taking it is a conditional UPDATE on an
+// expired row (or the INSERT of the first one), so exactly one node wins; a node that dies keeps the lock only until
+// lockedUntil passes.
+@Service
+public class JobLockService {
+
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+
+    public JobLockService(JobLockRepository jobLockRepository, PlatformTransactionManager transactionManager) {
+        this.jobLockRepository = jobLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean tryLock(String name, Duration lockAtMostFor) {
+        Instant now = Instant.now();
+        Instant until = now.plus(lockAtMostFor);
+
+        if (transactionTemplate.execute(status -> jobLockRepository.acquireIfExpired(name, owner, now, until)) == 1) {
+            return true;
+        }
+        // Saves a failing INSERT while the lock is held; the INSERT alone decides between nodes racing for a new row
+        if (jobLockRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            return transactionTemplate.execute(status -> jobLockRepository.insert(name, owner, now, until)) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    // Only the holder can release: once its lock expired and another node took over, this is a no-op
+    public void unlock(String name) {
+        transactionTemplate.executeWithoutResult(status -> jobLockRepository.release(name, owner, Instant.now()));
+    }
+}
@@ -0,0 +1,25 @@
+package diegobustos.my_task_planner_backend.service;
+
+import diegobustos.my_task_planner_backend.config.AuthenticatedUser;
+import diegobustos.my_task_planner_backend.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class PrincipalCacheService {
+
+    private final UserDetailsServiceImpl userDetailsService;
+
+    @Cacheable(cacheNames = CacheConfig.PRINCIPALS_CACHE, sync = true)
+    public AuthenticatedUser loadPrincipal(String email) {
+        // Request authentication never checks the password, so the hash is not kept in memory.
+        return userDetailsService.loadUserByUsername(email).withoutPassword();
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PRINCIPALS_CACHE)
+    public void evict(String email) {
+    }
+}
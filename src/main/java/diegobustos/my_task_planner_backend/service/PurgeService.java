@@ -0,0 +1,164 @@
+package diegobustos.my_task_planner_backend.service;
+
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.repository.UserBoardRepository;
+import diegobustos.my_task_planner_backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Hard-deletes rows soft-deleted longer than the retention period. Every node schedules the job, the job lock lets one
+// of them run it. Rows go a chunk of ids per transaction, children before parents (items, tasks, memberships, boards,
+// users), with a pause between chunks so the purge never competes with traffic for long. A run that reaches
+// max-duration stops and leaves the rest to the next one.
+@Slf4j
+@Service
+public class PurgeService {
+
+    public static final String LOCK_NAME = "purge-soft-deleted";
+    public static final String ROWS_METRIC = "planner.purge.rows";
+    public static final String DURATION_METRIC = "planner.purge.duration";
+
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final ItemRepository itemRepository;
+    private final UserBoardRepository userBoardRepository;
+    private final UserRepository userRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration retention;
+    private final Limit chunk;
+    private final Duration pause;
+    private final Duration maxDuration;
+    private final Duration lockAtMostFor;
+
+    public PurgeService(BoardRepository boardRepository,
+                        TaskRepository taskRepository,
+                        ItemRepository itemRepository,
+                        UserBoardRepository userBoardRepository,
+                        UserRepository userRepository,
+                        JobLockService jobLockService,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${planner.purge.retention:30d}") Duration retention,
+                        @Value("${planner.purge.chunk-size:500}") int chunkSize,
+                        @Value("${planner.purge.pause:200ms}") Duration pause,
+                        @Value("${planner.purge.max-duration:30m}") Duration maxDuration,
+                        @Value("${planner.purge.lock-at-most:1h}") Duration lockAtMostFor) {
+        this.boardRepository = boardRepository;
+        this.taskRepository = taskRepository;
+        this.itemRepository = itemRepository;
+        this.userBoardRepository = userBoardRepository;
+        this.userRepository = userRepository;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.retention = retention;
+        this.chunk = Limit.of(chunkSize);
+        this.pause = pause;
+        this.maxDuration = maxDuration;
+        this.lockAtMostFor = lockAtMostFor;
+    }
+
+    @Scheduled(cron = "${planner.purge.cron:0 30 3 * * *}")
+    public void purgeSoftDeleted() {
+        if (!jobLockService.tryLock(LOCK_NAME, lockAtMostFor)) {
+            log.info("Skipping purge of soft-deleted rows: another node holds the lock");
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean completed = false;
+        try {
+            Instant cutoff = Instant.now().minus(retention);
+            Instant deadline = Instant.now().plus(maxDuration);
+            completed = purgeBoards(cutoff, deadline)
+                    && purgeTasks(() -> taskRepository.findIdsDeletedBefore(cutoff, chunk), deadline)
+                    && purgeRows("item", () -> itemRepository.findIdsDeletedBefore(cutoff, chunk), itemRepository::purgeByIds, deadline)
+                    && purgeRows("user_board", () -> userBoardRepository.findIdsDeletedBefore(cutoff, chunk), userBoardRepository::purgeByIds, deadline)
+                    && purgeRows("users", () -> userRepository.findIdsDeletedBeforeWithoutBoards(cutoff, chunk), userRepository::purgeByIds, deadline);
+        } finally {
+            long nanos = sample.stop(Timer.builder(DURATION_METRIC)
+                    .description("Time taken by a purge of soft-deleted rows")
+                    .tag("result", completed ? "completed" : "partial")
+                    .register(meterRegistry));
+            jobLockService.unlock(LOCK_NAME);
+            log.info("Purge of soft-deleted rows {} in {}", completed ? "completed" : "stopped early", Duration.ofNanos(nanos));
+        }
+    }
+
+    // A board's tasks (live ones included, e.g. left behind by an interrupted cascade) go before the board itself
+    private boolean purgeBoards(Instant cutoff, Instant deadline) {
+        List<Long> boardIds;
+        while (!(boardIds = boardRepository.findIdsDeletedBefore(cutoff, chunk)).isEmpty()) {
+            Collection<Long> chunkOfBoards = boardIds;
+            if (!purgeTasks(() -> taskRepository.findIdsByBoardIds(chunkOfBoards, chunk), deadline)) {
+                return false;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                purged("user_board", userBoardRepository.purgeByBoardIds(chunkOfBoards));
+                purged("board", boardRepository.purgeByIds(chunkOfBoards));
+            });
+            if (!pause(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean purgeTasks(Supplier<List<Long>> nextChunk, Instant deadline) {
+        return purgeRows("task", nextChunk, taskIds -> {
+            purged("item", itemRepository.purgeByTaskIds(taskIds));
+            return taskRepository.purgeByIds(taskIds);
+        }, deadline);
+    }
+
+    private boolean purgeRows(String table, Supplier<List<Long>> nextChunk, Function<List<Long>, Integer> delete, Instant deadline) {
+        List<Long> ids;
+        while (!(ids = nextChunk.get()).isEmpty()) {
+            List<Long> chunkOfIds = ids;
+            purged(table, transactionTemplate.execute(status -> delete.apply(chunkOfIds)));
+            if (!pause(deadline)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean pause(Instant deadline) {
+        if (Instant.now().isAfter(deadline)) {
+            return false;
+        }
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void purged(String table, int rows) {
+        Counter.builder(ROWS_METRIC)
+                .description("Soft-deleted rows hard-deleted by the purge")
+                .tag("table", table)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+}
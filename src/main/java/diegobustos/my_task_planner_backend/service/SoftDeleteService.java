@@ -0,0 +1,122 @@
+package diegobustos.my_task_planner_backend.service;
+
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.repository.UserBoardRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// A cascade stamps every row it soft-deletes with the parent's deletedAt, so a restore brings back exactly what the
+// delete took and leaves rows that had been deleted on their own before untouched. Tasks and their items go a chunk
+// of task ids at a time, each chunk in its own transaction, so a large board never holds its row locks for the whole
+// cascade. The parent row is stamped first, which already hides the children from every access-checked query.
+@Slf4j
+@Service
+@Timed("service.method")
+public class SoftDeleteService {
+
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final ItemRepository itemRepository;
+    private final UserBoardRepository userBoardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public SoftDeleteService(BoardRepository boardRepository,
+                             TaskRepository taskRepository,
+                             ItemRepository itemRepository,
+                             UserBoardRepository userBoardRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${planner.soft-delete.chunk-size:500}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.taskRepository = taskRepository;
+        this.itemRepository = itemRepository;
+        this.userBoardRepository = userBoardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    // Microsecond precision is what the timestamp columns keep, so the stamp still matches after a round trip
+    public static Instant deletionTimestamp() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    public void cascadeBoardDeletion(Collection<Long> boardIds, Instant deletedAt) {
+        int tasks = 0;
+        List<Long> chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                List<Long> taskIds = taskRepository.findLiveIdsByBoardIds(boardIds, Limit.of(chunkSize));
+                if (!taskIds.isEmpty()) {
+                    itemRepository.softDeleteByTaskIds(taskIds, deletedAt);
+                    taskRepository.softDeleteByIds(taskIds, deletedAt);
+                }
+                return taskIds;
+            });
+            tasks += chunk.size();
+        } while (!chunk.isEmpty());
+
+        transactionTemplate.executeWithoutResult(status -> userBoardRepository.softDeleteByBoardIds(boardIds, deletedAt));
+        log.info("Soft-deleted {} boards with {} tasks", boardIds.size(), tasks);
+    }
+
+    // Children first, so a board only reappears once everything deleted with it is back
+    public void restoreBoards(Collection<Long> boardIds, Instant deletedAt) {
+        cascadeBoardRestore(boardIds, deletedAt);
+        transactionTemplate.executeWithoutResult(status -> boardRepository.restoreByIds(boardIds, deletedAt, Instant.now()));
+    }
+
+    public void cascadeBoardRestore(Collection<Long> boardIds, Instant deletedAt) {
+        Instant now = Instant.now();
+        List<Long> chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> {
+                List<Long> taskIds = taskRepository.findIdsByBoardIdsDeletedAt(boardIds, deletedAt, Limit.of(chunkSize));
+                if (!taskIds.isEmpty()) {
+                    itemRepository.restoreByTaskIds(taskIds, deletedAt, now);
+                    taskRepository.restoreByIds(taskIds, deletedAt, now);
+                }
+                return taskIds;
+            });
+        } while (!chunk.isEmpty());
+
+        transactionTemplate.executeWithoutResult(status -> userBoardRepository.restoreByBoardIds(boardIds, deletedAt, now));
+    }
+
+    // Boards shared with other live members stay; the user only leaves them
+    public void deleteBoardsOfUser(Long userId, Instant deletedAt) {
+        for (List<Long> boardIds : partition(userBoardRepository.findLiveBoardIdsOnlyMemberIs(userId))) {
+            transactionTemplate.executeWithoutResult(status -> boardRepository.softDeleteByIds(boardIds, deletedAt));
+            cascadeBoardDeletion(boardIds, deletedAt);
+        }
+        transactionTemplate.executeWithoutResult(status -> userBoardRepository.softDeleteByUserId(userId, deletedAt));
+    }
+
+    public void restoreBoardsOfUser(Long userId, Instant deletedAt) {
+        Instant now = Instant.now();
+        for (List<Long> boardIds : partition(userBoardRepository.findBoardIdsDeletedWithUser(userId, deletedAt))) {
+            restoreBoards(boardIds, deletedAt);
+        }
+        transactionTemplate.executeWithoutResult(status -> userBoardRepository.restoreByUserId(userId, deletedAt, now));
+    }
+
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+        }
+        return chunks;
+    }
+}
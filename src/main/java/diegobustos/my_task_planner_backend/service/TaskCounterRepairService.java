@@ -0,0 +1,63 @@
+package diegobustos.my_task_planner_backend.service;
+
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+// Corrects task item counters that drifted from the live items. Live tasks are walked a chunk of ids per transaction
+// and only the ones whose counters differ are written. Every node schedules the job, the job lock lets one of them run it.
+@Slf4j
+@Service
+@Timed("service.method")
+public class TaskCounterRepairService {
+
+    public static final String LOCK_NAME = "repair-task-counters";
+
+    private final TaskRepository taskRepository;
+    private final JobLockService jobLockService;
+    private final TransactionTemplate transactionTemplate;
+    private final Limit chunk;
+    private final Duration lockAtMostFor;
+
+    public TaskCounterRepairService(TaskRepository taskRepository,
+                                    JobLockService jobLockService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${planner.task-counters.chunk-size:500}") int chunkSize,
+                                    @Value("${planner.task-counters.lock-at-most:1h}") Duration lockAtMostFor) {
+        this.taskRepository = taskRepository;
+        this.jobLockService = jobLockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunk = Limit.of(chunkSize);
+        this.lockAtMostFor = lockAtMostFor;
+    }
+
+    @Scheduled(cron = "${planner.task-counters.repair-cron:0 0 3 * * *}")
+    public void rebuildItemCounters() {
+        if (!jobLockService.tryLock(LOCK_NAME, lockAtMostFor)) {
+            log.info("Skipping item counter repair: another node holds the lock");
+            return;
+        }
+        try {
+            int repaired = 0;
+            long afterId = 0;
+            List<Long> taskIds;
+            while (!(taskIds = taskRepository.findLiveIdsAfter(afterId, chunk)).isEmpty()) {
+                List<Long> chunkOfIds = taskIds;
+                repaired += transactionTemplate.execute(status -> taskRepository.rebuildItemCounters(chunkOfIds));
+                afterId = taskIds.get(taskIds.size() - 1);
+            }
+            log.info("Rebuilt item counters for {} tasks", repaired);
+        } finally {
+            jobLockService.unlock(LOCK_NAME);
+        }
+    }
+}
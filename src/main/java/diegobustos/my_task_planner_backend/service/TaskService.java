@@ -1,38 +1,41 @@
 package diegobustos.my_task_planner_backend.service;
 
+import diegobustos.my_task_planner_backend.dto.BulkTaskResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
+import diegobustos.my_task_planner_backend.dto.MoveTasksRequest;
+import diegobustos.my_task_planner_backend.dto.PageCursor;
 import diegobustos.my_task_planner_backend.dto.TaskRequest;
 import diegobustos.my_task_planner_backend.dto.TaskResponse;
 import diegobustos.my_task_planner_backend.entity.Board;
 import diegobustos.my_task_planner_backend.entity.Item;
 import diegobustos.my_task_planner_backend.entity.Task;
-import diegobustos.my_task_planner_backend.entity.User;
-import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
 import diegobustos.my_task_planner_backend.exception.TaskNotFoundException;
-import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
-import diegobustos.my_task_planner_backend.repository.BoardRepository;
 import diegobustos.my_task_planner_backend.repository.ItemRepository;
 import diegobustos.my_task_planner_backend.repository.TaskRepository;
-import diegobustos.my_task_planner_backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class TaskService {
 
-    private final UserRepository userRepository;
     private final TaskRepository taskRepository;
-    private final BoardRepository boardRepository;
     private final ItemRepository itemRepository;
+    private final BoardAccessService boardAccessService;
 
     @Transactional
     public TaskResponse createTask(Long boardId, TaskRequest request){
-        Board board = validateAccessAndGetBoard(boardId);
+        Board board = boardAccessService.getAccessibleBoard(boardId);
 
         Task task = Task.builder()
                 .title(request.getTitle())
@@ -45,19 +48,33 @@ public class TaskService {
     }
 
     public List<TaskResponse> getAllTasks(Long id) {
-        Board board = validateAccessAndGetBoard(id);
+        Board board = boardAccessService.getAccessibleBoard(id);
 
         List<Task> tasks = taskRepository.findByBoardIdAndDeletedAtIsNullOrderByCreatedAtDesc(board.getId());
 
-        return tasks.stream().map(this::mapTaskToResponse).toList();
+        return mapTasksToResponses(tasks);
     }
 
-    public TaskResponse updateTask(Long taskId, TaskRequest request) {
+    public CursorPageResponse<TaskResponse> getTasksByCursor(Long boardId, String cursor, int size, Boolean completed) {
+        Board board = boardAccessService.getAccessibleBoard(boardId);
 
-        Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        int sliceSize = CursorPageResponse.clampSize(size);
+        Limit limit = Limit.of(sliceSize + 1);
 
-        Board board = validateAccessAndGetBoard(task.getBoard().getId());
+        List<Task> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findFirstSliceByBoardId(board.getId(), completed, limit);
+        } else {
+            PageCursor after = PageCursor.decode(cursor);
+            tasks = taskRepository.findSliceByBoardIdAfter(board.getId(), completed, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        return CursorPageResponse.fromRows(tasks, sliceSize, this::mapTasksToResponses,
+                task -> new PageCursor(task.getCreatedAt(), task.getId()));
+    }
+
+    public TaskResponse updateTask(Long taskId, TaskRequest request) {
+        Task task = boardAccessService.getAccessibleTask(taskId);
 
         task.setTitle(request.getTitle());
         taskRepository.save(task);
@@ -65,41 +82,70 @@ public class TaskService {
         return mapTaskToResponse(task);
     }
 
+    @Transactional
     public TaskResponse toggleTaskCompletion(Long taskId) {
-        Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
-
-        Board board = validateAccessAndGetBoard(task.getBoard().getId());
+        boardAccessService.getAccessibleTask(taskId);
 
-        task.setCompleted(!task.isCompleted());
-        taskRepository.save(task);
+        if (taskRepository.toggleCompleted(taskId, Instant.now()) == 0) {
+            throw new TaskNotFoundException("Task not found");
+        }
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
 
         return mapTaskToResponse(task);
     }
 
     public void deleteTask(Long taskId) {
-        Task task = taskRepository.findByIdAndDeletedAtIsNull(taskId)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found"));
-
-        Board board = validateAccessAndGetBoard(task.getBoard().getId());
+        Task task = boardAccessService.getAccessibleTask(taskId);
 
         task.setDeletedAt(Instant.now());
         taskRepository.save(task);
     }
 
+    // Items are checked before the tasks flip, so the counters stay full and the next item toggle keeps them consistent
+    @Transactional
+    public BulkTaskResponse completeAllTasks(Long boardId) {
+        Board board = boardAccessService.getAccessibleBoard(boardId);
+
+        Instant now = Instant.now();
+        itemRepository.checkAllOfOpenTasksByBoardId(board.getId(), now);
+        return new BulkTaskResponse(taskRepository.completeAllByBoardId(board.getId(), now));
+    }
+
+    @Transactional
+    public BulkTaskResponse deleteCompletedTasks(Long boardId) {
+        Board board = boardAccessService.getAccessibleBoard(boardId);
+
+        return new BulkTaskResponse(taskRepository.softDeleteCompletedByBoardId(board.getId(), Instant.now()));
+    }
+
+    // Tasks on boards the user cannot reach are filtered inside the UPDATE and simply not counted
+    @Transactional
+    public BulkTaskResponse moveTasks(MoveTasksRequest request) {
+        Board target = boardAccessService.getAccessibleBoard(request.getTargetBoardId());
+
+        int moved = taskRepository.moveAccessibleToBoard(Set.copyOf(request.getTaskIds()),
+                boardAccessService.currentUserId(), target, Instant.now());
+
+        return new BulkTaskResponse(moved);
+    }
+
     public TaskResponse mapTaskToResponse(Task task) {
         List <Item> items = itemRepository.findByTaskIdAndDeletedAtIsNull(task.getId());
         return TaskResponse.fromEntity(task, items);
     }
 
-    private Board validateAccessAndGetBoard(Long id) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+    public List<TaskResponse> mapTasksToResponses(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
 
-        Board board = boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, id)
-                .orElseThrow(() -> new BoardNotFoundException("Board not found"));
+        List<Long> taskIds = tasks.stream().map(Task::getId).toList();
+        Map<Long, List<Item>> itemsByTaskId = itemRepository.findByTaskIdInAndDeletedAtIsNull(taskIds).stream()
+                .collect(Collectors.groupingBy(item -> item.getTask().getId()));
 
-        return board;
+        return tasks.stream()
+                .map(task -> TaskResponse.fromEntity(task, itemsByTaskId.getOrDefault(task.getId(), List.of())))
+                .toList();
     }
 }
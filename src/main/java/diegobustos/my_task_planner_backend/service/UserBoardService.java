@@ -4,11 +4,13 @@ import diegobustos.my_task_planner_backend.entity.Board;
 import diegobustos.my_task_planner_backend.entity.User;
 import diegobustos.my_task_planner_backend.entity.UserBoard;
 import diegobustos.my_task_planner_backend.repository.UserBoardRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class UserBoardService {
 
     private final UserBoardRepository userBoardRepository;
@@ -1,27 +1,48 @@
 package diegobustos.my_task_planner_backend.service;
 
+import diegobustos.my_task_planner_backend.config.AuthenticatedUser;
 import diegobustos.my_task_planner_backend.entity.User;
 import diegobustos.my_task_planner_backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     @Override
-    public UserDetails loadUserByUsername(String email) {
+    public AuthenticatedUser loadUserByUsername(String email) {
         User user = userRepository.findByEmailAndDeletedAtIsNull(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())
-                .password(user.getPassword())
-                .build();
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword());
+    }
+
+    // Called by the authentication provider after a successful login whose stored hash is
+    // outdated. The swap only applies if the hash is still the one that was just verified,
+    // so a concurrent password change is never overwritten.
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthenticatedUser current = (AuthenticatedUser) user;
+        int updated = userRepository.replacePassword(current.getId(), current.getPassword(), newPassword, Instant.now());
+        Counter.builder("auth.password.rehash")
+                .tag("result", updated > 0 ? "upgraded" : "skipped")
+                .register(meterRegistry)
+                .increment();
+
+        return new AuthenticatedUser(current.getId(), current.getUsername(), newPassword);
     }
 }
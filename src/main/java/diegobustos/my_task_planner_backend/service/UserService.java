@@ -4,8 +4,10 @@ import diegobustos.my_task_planner_backend.dto.*;
 import diegobustos.my_task_planner_backend.entity.User;
 import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
 import diegobustos.my_task_planner_backend.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -13,11 +15,15 @@ import java.time.Instant;
 
 @Service
 @RequiredArgsConstructor
+@Timed("service.method")
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final PrincipalCacheService principalCacheService;
+    private final SoftDeleteService softDeleteService;
+    private final BoardAccessService boardAccessService;
 
     public AuthResponse registerUser(RegisterRequest request) {
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
@@ -35,14 +41,12 @@ public class UserService {
 
         userRepository.save(user);
 
-        String token = jwtService.generateToken(user.getEmail());
+        String token = jwtService.generateToken(user.getEmail(), user.getId());
         return new AuthResponse(token);
     }
 
     public UserResponse updateUserById(UpdateUserRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        User user = currentUser();
 
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
@@ -52,17 +56,13 @@ public class UserService {
     }
 
     public UserResponse getUserById() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        User user = currentUser();
 
         return UserResponse.fromEntity(user);
     }
 
     public void updatePasswordById(UpdatePasswordRequest request) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        User user = currentUser();
 
         if (!passwordEncoder.matches(request.getOldPassword(), user.getPassword())) {
             throw new IllegalArgumentException("The password is incorrect");
@@ -71,15 +71,44 @@ public class UserService {
         String hashedPassword = passwordEncoder.encode(request.getNewPassword());
         user.setPassword(hashedPassword);
         userRepository.save(user);
+        principalCacheService.evict(user.getEmail());
     }
 
+    // One transaction: the cascade's chunks join it, so a failure leaves neither the user nor any of its boards deleted
+    @Transactional
     public void deleteUserById () {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        User user = currentUser();
+
+        Instant deletedAt = SoftDeleteService.deletionTimestamp();
+        user.setDeletedAt(deletedAt);
+        userRepository.save(user);
+
+        softDeleteService.deleteBoardsOfUser(user.getId(), deletedAt);
+        principalCacheService.evict(user.getEmail());
+    }
+
+    // A deleted account can be reactivated with its credentials until the purge removes it
+    @Transactional
+    public AuthResponse restoreUser(AuthRequest request) {
+        User user = userRepository.findByEmail(request.getEmail())
+                .filter(candidate -> passwordEncoder.matches(request.getPassword(), candidate.getPassword()))
+                .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
+
+        if (user.getDeletedAt() == null) {
+            throw new IllegalArgumentException("Account is not deleted");
+        }
 
-        user.setDeletedAt(Instant.now());
+        softDeleteService.restoreBoardsOfUser(user.getId(), user.getDeletedAt());
+        user.setDeletedAt(null);
         userRepository.save(user);
+        principalCacheService.evict(user.getEmail());
+
+        return new AuthResponse(jwtService.generateToken(user.getEmail(), user.getId()));
     }
 
+    // The id comes from the token, so the lookup is by primary key rather than by email
+    private User currentUser() {
+        return userRepository.findById(boardAccessService.currentUserId())
+                .orElseThrow(() -> new UserNotFoundException("User not found"));
+    }
 }
@@ -0,0 +1,25 @@
+package diegobustos.my_task_planner_backend.service;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+    private final String subject;
+    private final Long userId;
+    private final String jti;
+    private final Instant expiresAt;
+
+    public static VerifiedToken fromClaims(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get(JwtService.USER_ID_CLAIM, Long.class),
+                claims.getId(),
+                claims.getExpiration().toInstant());
+    }
+}
@@ -0,0 +1,116 @@
+package diegobustos.my_task_planner_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+@Service
+public class VerifiedTokenCache {
+
+    public static final String CACHE_NAME = "verifiedTokens";
+
+    private final JwtService jwtService;
+    private final Duration maxTtl;
+    private final Duration revocationRetention;
+    private final Cache<String, VerifiedToken> verified;
+    private final Cache<String, Boolean> revokedJtis;
+
+    public VerifiedTokenCache(JwtService jwtService,
+                              MeterRegistry meterRegistry,
+                              @Value("${planner.security.token-cache.max-size:10000}") long maxSize,
+                              @Value("${planner.security.token-cache.max-ttl:15m}") Duration maxTtl,
+                              @Value("${JWT_EXPIRATION}") long tokenLifetimeMillis) {
+        this.jwtService = jwtService;
+        this.maxTtl = maxTtl;
+        this.revocationRetention = Duration.ofMillis(tokenLifetimeMillis);
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+                        return timeToLive(token).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return timeToLive(token).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        // Not size-bounded: evicting a revocation would make its token valid again. Entries go once the token has expired.
+        this.revokedJtis = Caffeine.newBuilder()
+                .expireAfterWrite(revocationRetention)
+                .build();
+        // Same tag keys as the CacheManager caches get from Spring's cache metrics, which Prometheus requires per meter name
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME,
+                Tags.of("cache.manager", "verifiedTokenCache", "name", CACHE_NAME));
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        VerifiedToken cached = verified.getIfPresent(digest);
+        if (cached == null) {
+            Optional<VerifiedToken> parsed = jwtService.verifyAndExtract(token).map(VerifiedToken::fromClaims);
+            if (parsed.isEmpty()) {
+                return Optional.empty();
+            }
+            cached = parsed.get();
+            verified.put(digest, cached);
+        }
+
+        if (isRevoked(cached) || !cached.getExpiresAt().isAfter(Instant.now())) {
+            verified.invalidate(digest);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    public void revoke(String jti) {
+        revokedJtis.put(jti, Boolean.TRUE);
+        verified.asMap().values().removeIf(token -> jti.equals(token.getJti()));
+    }
+
+    private boolean isRevoked(VerifiedToken token) {
+        return token.getJti() != null && revokedJtis.getIfPresent(token.getJti()) != null;
+    }
+
+    private Duration timeToLive(VerifiedToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.getExpiresAt());
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maxTtl) < 0 ? remaining : maxTtl;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
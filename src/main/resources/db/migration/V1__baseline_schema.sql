@@ -0,0 +1,55 @@
+-- Schema as Hibernate (ddl-auto=update) created it before migrations were introduced.
+-- Existing databases are baselined at this version instead of running it (spring.flyway.baseline-on-migrate).
+
+create table users (
+    id         bigint generated by default as identity primary key,
+    first_name varchar(255)                not null,
+    last_name  varchar(255)                not null,
+    email      varchar(255)                not null,
+    password   varchar(255)                not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    deleted_at timestamp(6) with time zone,
+    constraint uk_users_email unique (email)
+);
+
+create table board (
+    id         bigint generated by default as identity primary key,
+    title      varchar(255)                not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    deleted_at timestamp(6) with time zone
+);
+
+create table user_board (
+    id         bigint generated by default as identity primary key,
+    user_id    bigint                      not null,
+    board_id   bigint                      not null,
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    deleted_at timestamp(6) with time zone,
+    constraint fk_user_board_user foreign key (user_id) references users (id),
+    constraint fk_user_board_board foreign key (board_id) references board (id)
+);
+
+create table task (
+    id            bigint generated by default as identity primary key,
+    title         varchar(255)                not null,
+    board_id      bigint                      not null,
+    completed     boolean                     not null,
+    created_at    timestamp(6) with time zone not null,
+    updated_at    timestamp(6) with time zone not null,
+    deleted_at    timestamp(6) with time zone,
+    constraint fk_task_board foreign key (board_id) references board (id)
+);
+
+create table item (
+    id           bigint generated by default as identity primary key,
+    title        varchar(255)                not null,
+    item_checked boolean                     not null,
+    task_id      bigint                      not null,
+    created_at   timestamp(6) with time zone not null,
+    updated_at   timestamp(6) with time zone not null,
+    deleted_at   timestamp(6) with time zone,
+    constraint fk_item_task foreign key (task_id) references task (id)
+);
@@ -0,0 +1,8 @@
+-- One row per background job; JobLockService takes a job's lock by moving locked_until forward on an expired row.
+
+create table job_lock (
+    name         varchar(64)                 not null primary key,
+    locked_until timestamp(6) with time zone not null,
+    locked_at    timestamp(6) with time zone not null,
+    locked_by    varchar(255)                not null
+);
@@ -0,0 +1,10 @@
+-- Per-task item counters kept up to date by ItemService. Databases baselined at V1 predate them, so the columns are
+-- added here and filled from the live items; TaskCounterRepairService corrects any later drift.
+
+alter table task add column if not exists total_items integer default 0 not null;
+
+alter table task add column if not exists checked_items integer default 0 not null;
+
+update task t
+set total_items   = (select count(*) from item i where i.task_id = t.id and i.deleted_at is null),
+    checked_items = (select count(*) from item i where i.task_id = t.id and i.deleted_at is null and i.item_checked = true);
@@ -0,0 +1,115 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import diegobustos.my_task_planner_backend.MyTaskPlannerBackendApplication;
+import diegobustos.my_task_planner_backend.entity.Board;
+import diegobustos.my_task_planner_backend.entity.Item;
+import diegobustos.my_task_planner_backend.entity.Task;
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Creates tasks with their items in one transaction through the repositories, with JDBC batching off
+// (batchSize=1, one round trip per row as IDENTITY ids forced) and on. Runs against in-process H2, where a
+// round trip costs no network time, so the gain against PostgreSQL over a network is larger than measured here.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class BatchInsertBenchmark {
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"50"})
+    private int tasks;
+
+    @Param({"10"})
+    private int itemsPerTask;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private TaskRepository taskRepository;
+    private ItemRepository itemRepository;
+    private JdbcTemplate jdbcTemplate;
+    private Board board;
+    private final AtomicLong roundTrips = new AtomicLong();
+    private final AtomicLong operations = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MyTaskPlannerBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=jdbc:h2:mem:batch-insert;DB_CLOSE_DELAY=-1",
+                        "--logging.level.root=WARN",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        taskRepository = context.getBean(TaskRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        board = context.getBean(BoardRepository.class).save(Board.builder().title("Batch board").build());
+
+        // A JDBC batch reaches the listener as one execution, so this counts round trips to the database.
+        context.getBean(ProxyDataSource.class).getProxyConfig().getQueryListener().addListener(new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                roundTrips.incrementAndGet();
+            }
+        });
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        long before = roundTrips.get();
+        jdbcTemplate.update("DELETE FROM item");
+        jdbcTemplate.update("DELETE FROM task");
+        roundTrips.addAndGet(before - roundTrips.get());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%nbatchSize=%d: %.1f JDBC round trips per operation%n", batchSize,
+                roundTrips.get() / (double) Math.max(1, operations.get()));
+        context.close();
+    }
+
+    @Benchmark
+    public int createTasksWithItems() {
+        return transactionTemplate.execute(status -> {
+            List<Task> created = new ArrayList<>(tasks);
+            List<Item> items = new ArrayList<>(tasks * itemsPerTask);
+            for (int t = 0; t < tasks; t++) {
+                Task task = Task.builder().title("Task " + t).board(board).totalItems(itemsPerTask).build();
+                created.add(task);
+                for (int i = 0; i < itemsPerTask; i++) {
+                    items.add(Item.builder().title("Item " + i).task(task).build());
+                }
+            }
+            taskRepository.saveAll(created);
+            itemRepository.saveAll(items);
+            operations.incrementAndGet();
+            return created.size() + items.size();
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import diegobustos.my_task_planner_backend.entity.Item;
+import diegobustos.my_task_planner_backend.entity.Task;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// Entity graphs shaped like a board slice: tasks with a handful of items each, as loaded by TaskService.
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        Instant now = Instant.now();
+        for (int t = 0; t < count; t++) {
+            Task task = Task.builder()
+                    .id((long) t + 1)
+                    .title("Prepare sprint review notes #" + t)
+                    .completed(t % 3 == 0)
+                    .build();
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    // Flat list in repository order, each item pointing at its task like findByTaskIdInAndDeletedAtIsNull returns them.
+    static List<Item> items(List<Task> tasks, int itemsPerTask) {
+        List<Item> items = new ArrayList<>(tasks.size() * itemsPerTask);
+        long id = 1;
+        for (int i = 0; i < itemsPerTask; i++) {
+            for (Task task : tasks) {
+                Item item = Item.builder()
+                        .id(id++)
+                        .title("Checklist entry " + i + " for task " + task.getId())
+                        .itemChecked(i % 2 == 0)
+                        .task(task)
+                        .build();
+                item.setCreatedAt(task.getCreatedAt());
+                item.setUpdatedAt(task.getUpdatedAt());
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
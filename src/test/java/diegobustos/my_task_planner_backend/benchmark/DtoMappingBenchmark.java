@@ -0,0 +1,53 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import diegobustos.my_task_planner_backend.dto.ItemResponse;
+import diegobustos.my_task_planner_backend.dto.TaskResponse;
+import diegobustos.my_task_planner_backend.entity.Item;
+import diegobustos.my_task_planner_backend.entity.Task;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int tasks;
+
+    @Param({"5"})
+    private int itemsPerTask;
+
+    private List<Task> taskEntities;
+    private List<Item> itemEntities;
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        taskEntities = BenchmarkFixtures.tasks(tasks);
+        itemEntities = BenchmarkFixtures.items(taskEntities, itemsPerTask);
+        item = itemEntities.get(0);
+    }
+
+    @Benchmark
+    public ItemResponse itemFromEntity() {
+        return ItemResponse.fromEntity(item);
+    }
+
+    // The in-memory half of TaskService.mapTasksToResponses: group the batched item rows, then map each task.
+    @Benchmark
+    public List<TaskResponse> tasksFromEntities() {
+        Map<Long, List<Item>> itemsByTaskId = itemEntities.stream()
+                .collect(Collectors.groupingBy(i -> i.getTask().getId()));
+        return taskEntities.stream()
+                .map(task -> TaskResponse.fromEntity(task, itemsByTaskId.getOrDefault(task.getId(), List.of())))
+                .toList();
+    }
+}
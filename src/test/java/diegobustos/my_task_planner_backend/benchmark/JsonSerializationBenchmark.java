@@ -0,0 +1,64 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
+import diegobustos.my_task_planner_backend.dto.PageCursor;
+import diegobustos.my_task_planner_backend.dto.TaskResponse;
+import diegobustos.my_task_planner_backend.entity.Item;
+import diegobustos.my_task_planner_backend.entity.Task;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    // 20 is the default cursor slice, 100 the largest one CursorPageResponse allows.
+    @Param({"20", "100"})
+    private int tasks;
+
+    @Param({"5"})
+    private int itemsPerTask;
+
+    private ObjectWriter writer;
+    private List<TaskResponse> taskList;
+    private CursorPageResponse<TaskResponse> slice;
+
+    @Setup
+    public void setUp() {
+        // Same builder Spring Boot uses for the MVC message converter, so module and feature defaults match.
+        writer = Jackson2ObjectMapperBuilder.json().build().writer();
+
+        List<Task> taskEntities = BenchmarkFixtures.tasks(tasks);
+        Map<Long, List<Item>> itemsByTaskId = BenchmarkFixtures.items(taskEntities, itemsPerTask).stream()
+                .collect(Collectors.groupingBy(i -> i.getTask().getId()));
+        taskList = taskEntities.stream()
+                .map(task -> TaskResponse.fromEntity(task, itemsByTaskId.get(task.getId())))
+                .toList();
+        Task last = taskEntities.get(taskEntities.size() - 1);
+        slice = CursorPageResponse.<TaskResponse>builder()
+                .content(taskList)
+                .nextCursor(new PageCursor(last.getCreatedAt(), last.getId()).encode())
+                .hasNext(true)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] taskList() throws Exception {
+        return writer.writeValueAsBytes(taskList);
+    }
+
+    @Benchmark
+    public byte[] taskSlice() throws Exception {
+        return writer.writeValueAsBytes(slice);
+    }
+}
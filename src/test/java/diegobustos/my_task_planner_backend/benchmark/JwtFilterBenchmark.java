@@ -0,0 +1,95 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import diegobustos.my_task_planner_backend.config.AuthenticatedUser;
+import diegobustos.my_task_planner_backend.config.JwtFilter;
+import diegobustos.my_task_planner_backend.service.JwtService;
+import diegobustos.my_task_planner_backend.service.PrincipalCacheService;
+import diegobustos.my_task_planner_backend.service.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Per-request cost of JwtFilter in front of every API call, with the principal already cached.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "5367566859703373367639792F423F452848284D6251655468576D5A71347437";
+    private static final String EMAIL = "bench@example.com";
+
+    private JwtFilter filter;
+    private MockHttpServletRequest authenticated;
+    private MockHttpServletRequest anonymous;
+    private MockHttpServletRequest forged;
+    private MockHttpServletResponse response;
+    private final FilterChain chain = (req, res) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(),
+                1_000, Duration.ofMinutes(15), TimeUnit.HOURS.toMillis(1));
+        AuthenticatedUser principal = new AuthenticatedUser(1L, EMAIL, "");
+        filter = new JwtFilter(verifiedTokenCache, new PrincipalCacheService(null) {
+            @Override
+            public AuthenticatedUser loadPrincipal(String email) {
+                return principal;
+            }
+        });
+
+        String token = jwtService.generateToken(EMAIL, 1L);
+        authenticated = request("Bearer " + token);
+        anonymous = request(null);
+        forged = request("Bearer " + token.substring(0, token.length() - 2) + "xx");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication cachedToken() throws Exception {
+        return filter(authenticated);
+    }
+
+    @Benchmark
+    public Authentication noToken() throws Exception {
+        return filter(anonymous);
+    }
+
+    // Invalid signatures are never cached, so every request pays the full parse.
+    @Benchmark
+    public Authentication invalidToken() throws Exception {
+        return filter(forged);
+    }
+
+    private Authentication filter(MockHttpServletRequest request) throws Exception {
+        try {
+            filter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/task/1");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
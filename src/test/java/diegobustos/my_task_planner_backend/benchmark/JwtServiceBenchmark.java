@@ -0,0 +1,68 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import diegobustos.my_task_planner_backend.service.JwtService;
+import diegobustos.my_task_planner_backend.service.VerifiedToken;
+import diegobustos.my_task_planner_backend.service.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "5367566859703373367639792F423F452848284D6251655468576D5A71347437";
+
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        token = jwtService.generateToken("bench@example.com", 1L);
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, new SimpleMeterRegistry(), 1_000, Duration.ofMinutes(15), TimeUnit.HOURS.toMillis(1));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken("bench@example.com", 1L);
+    }
+
+    // Previous JwtFilter path: validate, then parse again for the subject, each time decoding the secret and building a parser.
+    @Benchmark
+    public String decodeKeyAndParseTwice() {
+        Jwts.parserBuilder().setSigningKey(legacySignKey()).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(legacySignKey()).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Optional<Claims> verifyAndExtract() {
+        return jwtService.verifyAndExtract(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> cachedVerify() {
+        return verifiedTokenCache.verify(token);
+    }
+
+    private Key legacySignKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+}
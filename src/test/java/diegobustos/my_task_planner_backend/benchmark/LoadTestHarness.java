@@ -0,0 +1,273 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import diegobustos.my_task_planner_backend.MyTaskPlannerBackendApplication;
+import diegobustos.my_task_planner_backend.service.JwtService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Seeds a synthetic dataset of configurable size, then drives a weighted mix of board listing, task slice and
+// item toggle traffic from a closed loop of clients and writes throughput and latency percentiles as JSON.
+//
+//   mvn -Pload-test -DskipTests verify -Dload.seed.users=100000 -Dload.seed.boards-per-user=1 -Dload.heap=8g
+//
+// 100k users x 1 board x 10 tasks x 10 items gives 1M tasks and 10M items. Point load.datasource-url at a
+// file-based H2 database when the in-memory one does not fit the heap.
+public class LoadTestHarness {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final SyntheticDataset.Volumes volumes = new SyntheticDataset.Volumes(
+            Long.getLong("load.seed.users", 1_000),
+            Integer.getInteger("load.seed.boards-per-user", 2),
+            Integer.getInteger("load.seed.tasks-per-board", 10),
+            Integer.getInteger("load.seed.items-per-task", 10));
+    private final int clients = Integer.getInteger("load.clients", 64);
+    private final int activeUsers = (int) Math.min(volumes.users(), Integer.getInteger("load.active-users", 10_000));
+    private final Map<Endpoint, Integer> mix = parseMix(System.getProperty("load.mix", "boards=20,tasks=50,toggle=30"));
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+    private final Duration measurement = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+    private final String datasourceUrl = System.getProperty("load.datasource-url", "jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+    private final Path reportPath = Path.of(System.getProperty("load.report", "target/load-test-report.json"));
+
+    public static void main(String[] args) throws Exception {
+        Report report = new LoadTestHarness().run();
+        System.out.printf("%n%-8s %10s %8s %8s %8s %8s %8s %8s%n", "endpoint", "ok", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        report.endpoints().forEach((name, stats) -> System.out.println(stats.row(name)));
+        System.out.println(report.total().row("total"));
+        System.exit(0);
+    }
+
+    private Report run() throws Exception {
+        List<String> args = List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + datasourceUrl,
+                "--logging.level.root=WARN",
+                "--server.tomcat.max-connections=" + (clients + 100));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MyTaskPlannerBackendApplication.class)
+                .profiles("test")
+                .run(args.toArray(String[]::new))) {
+            long seedStarted = System.nanoTime();
+            String passwordHash = context.getBean(PasswordEncoder.class).encode(SyntheticDataset.PASSWORD);
+            new SyntheticDataset(context.getBean(JdbcTemplate.class), passwordHash).seed(volumes);
+            Duration seedTime = Duration.ofNanos(System.nanoTime() - seedStarted);
+            System.out.printf("Seeded %d users, %d boards, %d tasks, %d items in %ds%n",
+                    volumes.users(), volumes.boards(), volumes.tasks(), volumes.items(), seedTime.toSeconds());
+
+            JwtService jwtService = context.getBean(JwtService.class);
+            String[] tokens = new String[activeUsers];
+            for (int u = 0; u < activeUsers; u++) {
+                tokens[u] = jwtService.generateToken(SyntheticDataset.email(u + 1), (long) u + 1);
+            }
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(httpExecutor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            try {
+                System.out.printf("Warming up %d clients for %ds%n", clients, warmup.toSeconds());
+                drive(http, baseUrl, tokens, warmup);
+                System.out.printf("Measuring for %ds%n", measurement.toSeconds());
+                Instant startedAt = Instant.now();
+                List<Samples> samples = drive(http, baseUrl, tokens, measurement);
+
+                Report report = report(startedAt, seedTime, samples);
+                Files.createDirectories(reportPath.toAbsolutePath().getParent());
+                MAPPER.writeValue(reportPath.toFile(), report);
+                System.out.println("Report written to " + reportPath.toAbsolutePath());
+                return report;
+            } finally {
+                httpExecutor.shutdownNow();
+            }
+        }
+    }
+
+    // Each client keeps exactly one request in flight until the deadline, acting as a random active user per request.
+    private List<Samples> drive(HttpClient http, String baseUrl, String[] tokens, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(clients);
+        List<Samples> samples = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            Samples clientSamples = new Samples();
+            samples.add(clientSamples);
+            next(http, baseUrl, tokens, clientSamples, deadline, finished);
+        }
+        finished.await();
+        return samples;
+    }
+
+    private void next(HttpClient http, String baseUrl, String[] tokens, Samples samples, long deadline, CountDownLatch finished) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int user = random.nextInt(activeUsers);
+        long boardId = volumes.boardOf(user + 1, random.nextInt(volumes.boardsPerUser()));
+        Endpoint endpoint = pick(random);
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + tokens[user]);
+        switch (endpoint) {
+            case BOARDS -> request.uri(URI.create(baseUrl + "/api/v1/board/me?page=0&size=10")).GET();
+            case TASKS -> request.uri(URI.create(baseUrl + "/api/v1/task/" + boardId + "?size=20&cursor=")).GET();
+            case TOGGLE -> request.uri(URI.create(baseUrl + "/api/v1/item/toggle/"
+                            + volumes.itemOf(boardId, random.nextInt(volumes.tasksPerBoard()), random.nextInt(volumes.itemsPerTask()))))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody());
+        }
+        long startedAt = System.nanoTime();
+        http.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    samples.record(endpoint, System.nanoTime() - startedAt, error == null ? response.statusCode() : -1);
+                    next(http, baseUrl, tokens, samples, deadline, finished);
+                });
+    }
+
+    private Endpoint pick(ThreadLocalRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int roll = random.nextInt(total);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    private Report report(Instant startedAt, Duration seedTime, List<Samples> samples) {
+        Map<String, Stats> endpoints = new LinkedHashMap<>();
+        for (Endpoint endpoint : mix.keySet()) {
+            endpoints.put(endpoint.label, Stats.of(samples.stream().map(s -> s.of(endpoint)).toList(), measurement));
+        }
+        Stats total = Stats.of(samples.stream().flatMap(s -> s.byEndpoint.values().stream()).toList(), measurement);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("clients", clients);
+        config.put("activeUsers", activeUsers);
+        config.put("mix", mix.entrySet().stream().collect(LinkedHashMap::new, (m, e) -> m.put(e.getKey().label, e.getValue()), Map::putAll));
+        config.put("warmupSeconds", warmup.toSeconds());
+        config.put("durationSeconds", measurement.toSeconds());
+        config.put("datasourceUrl", datasourceUrl);
+        config.put("javaVersion", Runtime.version().toString());
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        return new Report(startedAt.toString(), config,
+                new DatasetReport(volumes.users(), volumes.boards(), volumes.tasks(), volumes.items(), seedTime.toMillis()),
+                total, endpoints);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.fromLabel(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix needs at least one positive weight");
+        }
+        return weights;
+    }
+
+    private enum Endpoint {
+        BOARDS("boards"), TASKS("tasks"), TOGGLE("toggle");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        static Endpoint fromLabel(String label) {
+            return Arrays.stream(values())
+                    .filter(e -> e.label.equals(label))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint in load.mix: " + label));
+        }
+    }
+
+    private static final class Samples {
+        private final Map<Endpoint, EndpointSamples> byEndpoint = new EnumMap<>(Endpoint.class);
+
+        void record(Endpoint endpoint, long nanos, int status) {
+            byEndpoint.computeIfAbsent(endpoint, e -> new EndpointSamples()).record(nanos, status);
+        }
+
+        EndpointSamples of(Endpoint endpoint) {
+            return byEndpoint.getOrDefault(endpoint, new EndpointSamples());
+        }
+    }
+
+    private static final class EndpointSamples {
+        private final List<Long> latencies = new ArrayList<>();
+        private final Map<String, Long> errors = new TreeMap<>();
+
+        // Status -1 marks a transport failure such as a timeout or reset connection.
+        void record(long nanos, int status) {
+            if (status >= 200 && status < 400) {
+                latencies.add(nanos);
+            } else {
+                errors.merge(status < 0 ? "transport" : String.valueOf(status), 1L, Long::sum);
+            }
+        }
+    }
+
+    private record Report(String startedAt, Map<String, Object> config, DatasetReport dataset,
+                          Stats total, Map<String, Stats> endpoints) {
+    }
+
+    private record DatasetReport(long users, long boards, long tasks, long items, long seedMillis) {
+    }
+
+    private record Stats(long ok, long errors, Map<String, Long> errorsByStatus, double throughput,
+                         double meanMs, double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+
+        static Stats of(List<EndpointSamples> samples, Duration duration) {
+            long[] sorted = samples.stream().flatMap(s -> s.latencies.stream()).mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            Map<String, Long> errorsByStatus = new TreeMap<>();
+            samples.forEach(s -> s.errors.forEach((status, count) -> errorsByStatus.merge(status, count, Long::sum)));
+            long errors = errorsByStatus.values().stream().mapToLong(Long::longValue).sum();
+            double mean = sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+            return new Stats(sorted.length, errors, errorsByStatus, sorted.length / (double) duration.toSeconds(),
+                    mean, percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), percentile(sorted, 1.0));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        String row(String name) {
+            return String.format("%-8s %10d %8d %8.1f %8.1f %8.1f %8.1f %8.1f", name, ok, errors, throughput, p50Ms, p90Ms, p99Ms, maxMs);
+        }
+    }
+}
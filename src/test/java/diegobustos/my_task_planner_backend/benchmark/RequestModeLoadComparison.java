@@ -0,0 +1,205 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import diegobustos.my_task_planner_backend.MyTaskPlannerBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+// Boots the app once per request execution mode and drives it with a closed loop of concurrent
+// clients: each client alternates a bounded task read and an item toggle (the 6-8 query write path).
+//
+//   mvn -Pload-comparison -DskipTests verify -Dload.java=/path/to/jdk-21/bin/java -Dload.clients=2000
+//
+// The virtual-thread run is skipped when the JVM is older than 21.
+public class RequestModeLoadComparison {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final int clients = Integer.getInteger("load.clients", 2000);
+    private final int users = Integer.getInteger("load.users", 50);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+    private final Duration measurement = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 30));
+
+    public static void main(String[] args) throws Exception {
+        RequestModeLoadComparison comparison = new RequestModeLoadComparison();
+        List<Result> results = new ArrayList<>();
+        results.add(comparison.run("platform"));
+        if (Runtime.version().feature() >= 21) {
+            results.add(comparison.run("virtual-threads"));
+        } else {
+            System.out.println("Skipping virtual-threads mode: JVM " + Runtime.version() + " is older than 21");
+        }
+
+        System.out.printf("%n%-16s %8s %10s %10s %8s %8s %8s%n", "mode", "clients", "ok req/s", "errors", "p50 ms", "p99 ms", "max ms");
+        for (Result result : results) {
+            System.out.println(result);
+        }
+        System.exit(0);
+    }
+
+    private Result run(String mode) throws Exception {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--server.tomcat.max-connections=" + (clients + 100)));
+        String[] profiles = mode.equals("platform") ? new String[]{"test"} : new String[]{"test", mode};
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MyTaskPlannerBackendApplication.class)
+                .profiles(profiles)
+                .run(args.toArray(String[]::new))) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            ExecutorService httpExecutor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(httpExecutor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            try {
+                List<Client> seeded = seed(http, baseUrl);
+                System.out.printf("[%s] seeded %d clients, warming up for %ds%n", mode, seeded.size(), warmup.toSeconds());
+                drive(http, seeded, warmup);
+                System.out.printf("[%s] measuring for %ds%n", mode, measurement.toSeconds());
+                return Result.of(mode, clients, drive(http, seeded, measurement), measurement);
+            } finally {
+                httpExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private List<Client> seed(HttpClient http, String baseUrl) throws Exception {
+        List<String> tokens = new ArrayList<>();
+        List<Long> boards = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            String token = post(http, baseUrl + "/api/v1/auth/register", null, Map.of(
+                    "firstName", "Load", "lastName", "Client",
+                    "email", "load-" + UUID.randomUUID() + "@example.com", "password", "Password123"))
+                    .get("token").asText();
+            tokens.add(token);
+            boards.add(post(http, baseUrl + "/api/v1/board", token, Map.of("title", "Load board")).get("id").asLong());
+        }
+
+        ExecutorService seeders = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Client>> futures = new ArrayList<>();
+            for (int c = 0; c < clients; c++) {
+                String token = tokens.get(c % users);
+                Long boardId = boards.get(c % users);
+                futures.add(seeders.submit(() -> {
+                    long taskId = post(http, baseUrl + "/api/v1/task/" + boardId, token, Map.of("title", "Load task")).get("id").asLong();
+                    long itemId = post(http, baseUrl + "/api/v1/item/" + taskId, token, Map.of("title", "Load item"))
+                            .get("items").get(0).get("id").asLong();
+                    return new Client(token,
+                            URI.create(baseUrl + "/api/v1/task/" + boardId + "?size=20&cursor="),
+                            URI.create(baseUrl + "/api/v1/item/toggle/" + itemId));
+                }));
+            }
+            List<Client> seeded = new ArrayList<>();
+            for (Future<Client> future : futures) {
+                seeded.add(future.get());
+            }
+            return seeded;
+        } finally {
+            seeders.shutdownNow();
+        }
+    }
+
+    // Each client keeps exactly one request in flight until the deadline; returns every client's samples.
+    private List<Samples> drive(HttpClient http, List<Client> seeded, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(seeded.size());
+        List<Samples> samples = new ArrayList<>();
+        for (Client client : seeded) {
+            Samples clientSamples = new Samples();
+            samples.add(clientSamples);
+            next(http, client, clientSamples, deadline, finished, 0);
+        }
+        finished.await();
+        return samples;
+    }
+
+    private void next(HttpClient http, Client client, Samples samples, long deadline, CountDownLatch finished, long sequence) {
+        if (System.nanoTime() >= deadline) {
+            finished.countDown();
+            return;
+        }
+        HttpRequest request = sequence % 2 == 0
+                ? authorized(client.read(), client.token()).GET().build()
+                : authorized(client.toggle(), client.token()).method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+        long startedAt = System.nanoTime();
+        http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    samples.record(System.nanoTime() - startedAt, error == null && response.statusCode() < 400);
+                    next(http, client, samples, deadline, finished, sequence + 1);
+                });
+    }
+
+    private JsonNode post(HttpClient http, String url, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest request = authorized(URI.create(url), token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding " + url + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        return MAPPER.readTree(response.body());
+    }
+
+    private HttpRequest.Builder authorized(URI uri, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30));
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private record Client(String token, URI read, URI toggle) {
+    }
+
+    private static final class Samples {
+        private final List<Long> latencies = new ArrayList<>();
+        private long errors;
+
+        void record(long nanos, boolean ok) {
+            if (ok) {
+                latencies.add(nanos);
+            } else {
+                errors++;
+            }
+        }
+    }
+
+    private record Result(String mode, int clients, long ok, long errors, double p50, double p99, double max, Duration duration) {
+
+        static Result of(String mode, int clients, List<Samples> samples, Duration duration) {
+            long[] sorted = samples.stream().flatMap(s -> s.latencies.stream()).mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            long errors = samples.stream().mapToLong(s -> s.errors).sum();
+            return new Result(mode, clients, sorted.length, errors,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 1.0), duration);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-16s %8d %10.1f %10d %8.1f %8.1f %8.1f",
+                    mode, clients, ok / (double) duration.toSeconds(), errors, p50, p99, max);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package diegobustos.my_task_planner_backend.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// Bulk-loads a deterministic user -> board -> task -> item tree straight through JDBC, bypassing the API so
+// millions of rows take minutes instead of hours. Ids are assigned densely in insertion order, so callers can
+// derive any user's boards, tasks and items arithmetically instead of querying them back.
+public class SyntheticDataset {
+
+    public static final String PASSWORD = "Password123";
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String passwordHash;
+
+    public SyntheticDataset(JdbcTemplate jdbcTemplate, String passwordHash) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordHash = passwordHash;
+    }
+
+    public static String email(long userId) {
+        return "load-user-" + userId + "@example.com";
+    }
+
+    public void seed(Volumes volumes) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("Synthetic data needs an empty schema, found " + existing + " users");
+        }
+
+        // Spread creation times backwards from now so cursor pagination walks realistic, distinct keys.
+        Instant origin = Instant.now();
+        insert("INSERT INTO users (id, first_name, last_name, email, password, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                volumes.users(), (ps, id) -> {
+                    Timestamp at = timestamp(origin, id);
+                    ps.setLong(1, id);
+                    ps.setString(2, "Load");
+                    ps.setString(3, "User " + id);
+                    ps.setString(4, email(id));
+                    ps.setString(5, passwordHash);
+                    ps.setTimestamp(6, at);
+                    ps.setTimestamp(7, at);
+                });
+        insert("INSERT INTO board (id, title, created_at, updated_at) VALUES (?, ?, ?, ?)",
+                volumes.boards(), (ps, id) -> {
+                    Timestamp at = timestamp(origin, id);
+                    ps.setLong(1, id);
+                    ps.setString(2, "Board " + id);
+                    ps.setTimestamp(3, at);
+                    ps.setTimestamp(4, at);
+                });
+        insert("INSERT INTO user_board (id, user_id, board_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                volumes.boards(), (ps, id) -> {
+                    Timestamp at = timestamp(origin, id);
+                    ps.setLong(1, id);
+                    ps.setLong(2, volumes.userOfBoard(id));
+                    ps.setLong(3, id);
+                    ps.setTimestamp(4, at);
+                    ps.setTimestamp(5, at);
+                });
+        // A third of every task's items start checked, so toggles flip between partial and fuller completion.
+        int checkedPerTask = volumes.itemsPerTask() / 3;
+        insert("INSERT INTO task (id, title, board_id, completed, total_items, checked_items, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                volumes.tasks(), (ps, id) -> {
+                    Timestamp at = timestamp(origin, id);
+                    ps.setLong(1, id);
+                    ps.setString(2, "Task " + id);
+                    ps.setLong(3, volumes.boardOfTask(id));
+                    ps.setBoolean(4, false);
+                    ps.setInt(5, volumes.itemsPerTask());
+                    ps.setInt(6, checkedPerTask);
+                    ps.setTimestamp(7, at);
+                    ps.setTimestamp(8, at);
+                });
+        insert("INSERT INTO item (id, title, item_checked, task_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                volumes.items(), (ps, id) -> {
+                    Timestamp at = timestamp(origin, id);
+                    long position = (id - 1) % volumes.itemsPerTask();
+                    ps.setLong(1, id);
+                    ps.setString(2, "Item " + id);
+                    ps.setBoolean(3, position < checkedPerTask);
+                    ps.setLong(4, volumes.taskOfItem(id));
+                    ps.setTimestamp(5, at);
+                    ps.setTimestamp(6, at);
+                });
+
+        // Explicit ids leave the id sequences at 1; move them past the seeded range so API inserts still work.
+        restartSequence("users_seq", volumes.users());
+        restartSequence("board_seq", volumes.boards());
+        restartSequence("user_board_seq", volumes.boards());
+        restartSequence("task_seq", volumes.tasks());
+        restartSequence("item_seq", volumes.items());
+    }
+
+    private void insert(String sql, long rows, RowWriter writer) {
+        List<Long> ids = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            ids.add(id);
+            if (ids.size() == BATCH_SIZE || id == rows) {
+                jdbcTemplate.batchUpdate(sql, ids, ids.size(), writer::write);
+                ids.clear();
+            }
+        }
+    }
+
+    // The pooled optimizer treats the first value it fetches as the top of a 50-id block, hence + 50.
+    private void restartSequence(String sequence, long seeded) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (seeded + 50));
+    }
+
+    private static Timestamp timestamp(Instant origin, long id) {
+        return Timestamp.from(origin.minus(Duration.ofSeconds(id)));
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(PreparedStatement ps, long id) throws SQLException;
+    }
+
+    public record Volumes(long users, int boardsPerUser, int tasksPerBoard, int itemsPerTask) {
+
+        public Volumes {
+            if (users < 1 || boardsPerUser < 1 || tasksPerBoard < 1 || itemsPerTask < 1) {
+                throw new IllegalArgumentException("Every volume must be at least 1");
+            }
+        }
+
+        public long boards() {
+            return users * boardsPerUser;
+        }
+
+        public long tasks() {
+            return boards() * tasksPerBoard;
+        }
+
+        public long items() {
+            return tasks() * itemsPerTask;
+        }
+
+        public long userOfBoard(long boardId) {
+            return (boardId - 1) / boardsPerUser + 1;
+        }
+
+        public long boardOfTask(long taskId) {
+            return (taskId - 1) / tasksPerBoard + 1;
+        }
+
+        public long taskOfItem(long itemId) {
+            return (itemId - 1) / itemsPerTask + 1;
+        }
+
+        public long boardOf(long userId, int index) {
+            return (userId - 1) * boardsPerUser + index + 1;
+        }
+
+        public long itemOf(long boardId, int taskIndex, int itemIndex) {
+            long taskId = (boardId - 1) * tasksPerBoard + taskIndex + 1;
+            return (taskId - 1) * itemsPerTask + itemIndex + 1;
+        }
+    }
+}
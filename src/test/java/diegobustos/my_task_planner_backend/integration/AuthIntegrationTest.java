@@ -8,9 +8,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(
@@ -70,6 +75,35 @@ class AuthIntegrationTest {
         assertNotEquals(tokenReg, tokenLog);
     }
 
+    @Test
+    void givenLoggedInUser_whenLogout_thenTokenIsRejectedAndOtherTokensStillWork() {
+        String email = "logout-" + UUID.randomUUID() + "@example.com";
+        validRegister.setEmail(email);
+        validLogin.setEmail(email);
+        String registerToken = restTemplate.postForEntity("/api/v1/auth/register", validRegister, AuthResponse.class)
+                .getBody().getToken();
+        String loginToken = restTemplate.postForEntity("/api/v1/auth/login", validLogin, AuthResponse.class)
+                .getBody().getToken();
+        assertEquals(HttpStatus.OK, getMe(loginToken).getStatusCode());
+
+        ResponseEntity<Void> logout = restTemplate.exchange("/api/v1/auth/logout", HttpMethod.POST,
+                new HttpEntity<>(bearer(loginToken)), Void.class);
+
+        assertEquals(HttpStatus.NO_CONTENT, logout.getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, getMe(loginToken).getStatusCode());
+        assertEquals(HttpStatus.OK, getMe(registerToken).getStatusCode());
+    }
+
+    private ResponseEntity<String> getMe(String token) {
+        return restTemplate.exchange("/api/v1/user/me", HttpMethod.GET, new HttpEntity<>(bearer(token)), String.class);
+    }
+
+    private static HttpHeaders bearer(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+
     @Test
     void givenEmptyRegisterRequest_whenRegister_thenReturnValidationErrors() {
         // Payload empty
@@ -0,0 +1,168 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import diegobustos.my_task_planner_backend.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=test"
+)
+class BoardIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email("boards-" + UUID.randomUUID() + "@example.com")
+                .password("Password123")
+                .build();
+        token = restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class)
+                .getBody()
+                .getToken();
+    }
+
+    @Test
+    void givenSeveralBoards_whenWalkingCursor_thenSlicesMatchPageOrderWithoutGapsOrDuplicates() {
+        List<Long> created = createBoards(7);
+        deleteBoard(created.get(3));
+
+        List<Long> pageOrder = boardIds(exchange("/api/v1/board/me?page=0&size=50", JsonNode.class).getBody());
+        List<Long> cursorOrder = walkCursor(3);
+
+        assertEquals(6, pageOrder.size());
+        assertFalse(pageOrder.contains(created.get(3)));
+        assertEquals(pageOrder, cursorOrder);
+    }
+
+    @Test
+    void givenBoardsWithSameCreatedAt_whenWalkingCursor_thenIdBreaksTies() {
+        List<Long> created = createBoards(5);
+        Timestamp sameInstant = Timestamp.from(Instant.parse("2025-05-01T12:00:00Z"));
+        created.forEach(id -> jdbcTemplate.update("UPDATE board SET created_at = ? WHERE id = ?", sameInstant, id));
+
+        List<Long> cursorOrder = walkCursor(2);
+
+        List<Long> expected = new ArrayList<>(created);
+        Collections.reverse(expected);
+        assertEquals(expected, cursorOrder);
+    }
+
+    @Test
+    void givenInvalidCursor_whenGetBoards_thenReturnBadRequest() {
+        ResponseEntity<JsonNode> res = exchange("/api/v1/board/me?cursor=%%%", JsonNode.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, res.getStatusCode());
+        assertEquals("Invalid cursor", res.getBody().get("message").asText());
+    }
+
+    @Test
+    void givenBoardWithTasksAndItems_whenDeletedAndRestored_thenChildrenFollowButEarlierDeletionsStay() {
+        Long boardId = createBoards(1).get(0);
+        List<Long> taskIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Long taskId = exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest("Task " + i), TaskResponse.class)
+                    .getBody().getId();
+            exchange("/api/v1/item/" + taskId, HttpMethod.POST, new ItemRequest("Item " + i), TaskResponse.class);
+            taskIds.add(taskId);
+        }
+        Long deletedBefore = taskIds.get(0);
+        exchange("/api/v1/task/" + deletedBefore, HttpMethod.DELETE, null, Void.class);
+
+        deleteBoard(boardId);
+
+        assertEquals(0, liveRows("SELECT COUNT(*) FROM task WHERE board_id = ? AND deleted_at IS NULL", boardId));
+        assertEquals(0, liveRows("SELECT COUNT(*) FROM item i JOIN task t ON t.id = i.task_id " +
+                "WHERE t.board_id = ? AND t.id <> ? AND i.deleted_at IS NULL", boardId, deletedBefore));
+        assertEquals(0, liveRows("SELECT COUNT(*) FROM user_board WHERE board_id = ? AND deleted_at IS NULL", boardId));
+        assertEquals(HttpStatus.NOT_FOUND, exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, String.class).getStatusCode());
+
+        ResponseEntity<BoardResponse> restored = exchange("/api/v1/board/" + boardId + "/restore", HttpMethod.POST, null, BoardResponse.class);
+
+        assertEquals(HttpStatus.OK, restored.getStatusCode());
+        TaskResponse[] tasks = exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class).getBody();
+        assertEquals(4, tasks.length);
+        assertTrue(Arrays.stream(tasks).allMatch(task -> task.getItems().size() == 1));
+        assertTrue(Arrays.stream(tasks).noneMatch(task -> task.getId().equals(deletedBefore)));
+        assertEquals(HttpStatus.NOT_FOUND,
+                exchange("/api/v1/board/" + boardId + "/restore", HttpMethod.POST, null, String.class).getStatusCode());
+    }
+
+    private long liveRows(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private List<Long> walkCursor(int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = "";
+        int slices = 0;
+        while (cursor != null) {
+            JsonNode slice = exchange("/api/v1/board/me?size=" + size + "&cursor=" + cursor, JsonNode.class).getBody();
+            assertNotNull(slice);
+            assertFalse(slice.has("totalElements"));
+            ids.addAll(boardIds(slice));
+            cursor = slice.get("hasNext").asBoolean() ? slice.get("nextCursor").asText() : null;
+            assertTrue(++slices <= 10, "cursor walk did not terminate");
+        }
+        return ids;
+    }
+
+    private List<Long> boardIds(JsonNode body) {
+        List<Long> ids = new ArrayList<>();
+        body.get("content").forEach(board -> ids.add(board.get("id").asLong()));
+        return ids;
+    }
+
+    private List<Long> createBoards(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            HttpEntity<BoardRequest> request = new HttpEntity<>(new BoardRequest("Board " + i), headers());
+            ids.add(restTemplate.exchange("/api/v1/board", HttpMethod.POST, request, BoardResponse.class).getBody().getId());
+        }
+        return ids;
+    }
+
+    private void deleteBoard(Long id) {
+        restTemplate.exchange("/api/v1/board/" + id, HttpMethod.DELETE, new HttpEntity<>(headers()), Void.class);
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, Class<T> type) {
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers()), type);
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Class<T> type) {
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers()), type);
+    }
+
+    private HttpHeaders headers() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
+}
@@ -0,0 +1,267 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import diegobustos.my_task_planner_backend.dto.*;
+import diegobustos.my_task_planner_backend.entity.Task;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.service.TaskCounterRepairService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=test"
+)
+class ItemIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskCounterRepairService taskCounterRepairService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email("items-" + UUID.randomUUID() + "@example.com")
+                .password("Password123")
+                .build();
+        token = restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class)
+                .getBody()
+                .getToken();
+
+        Long boardId = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Board"), BoardResponse.class)
+                .getBody()
+                .getId();
+        taskId = exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest("Task"), TaskResponse.class)
+                .getBody()
+                .getId();
+    }
+
+    @Test
+    void givenItemMutations_whenCheckingTask_thenCountersAndCompletionFollowItems() {
+        Long first = itemId(createItem("First"), "First");
+        TaskResponse afterSecond = createItem("Second");
+        Long second = itemId(afterSecond, "Second");
+        assertCounters(2, 0);
+        assertFalse(afterSecond.isCompleted());
+
+        assertFalse(toggleItem(first).isCompleted());
+        assertCounters(2, 1);
+
+        assertTrue(toggleItem(second).isCompleted());
+        assertCounters(2, 2);
+
+        TaskResponse afterThird = createItem("Third");
+        assertFalse(afterThird.isCompleted());
+        assertCounters(3, 2);
+
+        Long third = itemId(afterThird, "Third");
+        TaskResponse afterDelete = exchange("/api/v1/item/" + third, HttpMethod.DELETE, null, TaskResponse.class).getBody();
+        assertTrue(afterDelete.isCompleted());
+        assertCounters(2, 2);
+
+        assertFalse(toggleItem(first).isCompleted());
+        assertCounters(2, 1);
+    }
+
+    @Test
+    void givenChecklist_whenBulkCreating_thenAllItemsAreAddedAndCountersFollow() {
+        Long first = itemId(createItem("First"), "First");
+        toggleItem(first);
+        List<ItemRequest> lines = IntStream.range(0, 50).mapToObj(i -> new ItemRequest("Line " + i)).toList();
+
+        ResponseEntity<TaskResponse> res = exchange("/api/v1/item/" + taskId + "/bulk", HttpMethod.POST,
+                new BulkItemRequest(lines), TaskResponse.class);
+
+        assertEquals(HttpStatus.OK, res.getStatusCode());
+        assertEquals(51, res.getBody().getItems().size());
+        assertFalse(res.getBody().isCompleted());
+        assertCounters(51, 1);
+    }
+
+    @Test
+    void givenOversizedOrInvalidChecklist_whenBulkCreating_thenNothingIsCreated() {
+        List<ItemRequest> tooMany = IntStream.range(0, BulkItemRequest.MAX_ITEMS + 1).mapToObj(i -> new ItemRequest("Line " + i)).toList();
+        List<ItemRequest> withBlank = List.of(new ItemRequest("Line"), new ItemRequest(" "));
+
+        ResponseEntity<Map> oversized = exchange("/api/v1/item/" + taskId + "/bulk", HttpMethod.POST, new BulkItemRequest(tooMany), Map.class);
+        ResponseEntity<Map> blank = exchange("/api/v1/item/" + taskId + "/bulk", HttpMethod.POST, new BulkItemRequest(withBlank), Map.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, oversized.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, blank.getStatusCode());
+        assertEquals("Title is required", blank.getBody().get("items[1].title"));
+        assertCounters(0, 0);
+    }
+
+    @Test
+    void givenDriftedCounters_whenRepairJobRuns_thenCountersAreRebuiltFromItems() {
+        Long first = itemId(createItem("First"), "First");
+        createItem("Second");
+        toggleItem(first);
+        Long deleted = itemId(createItem("Deleted"), "Deleted");
+        exchange("/api/v1/item/" + deleted, HttpMethod.DELETE, null, TaskResponse.class);
+
+        jdbcTemplate.update("UPDATE task SET total_items = 42, checked_items = 7 WHERE id = ?", taskId);
+        Long boardId = jdbcTemplate.queryForObject("SELECT board_id FROM task WHERE id = ?", Long.class, taskId);
+        Long deletedTask = exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest("Deleted"), TaskResponse.class)
+                .getBody().getId();
+        jdbcTemplate.update("UPDATE task SET total_items = 9, deleted_at = CURRENT_TIMESTAMP WHERE id = ?", deletedTask);
+
+        taskCounterRepairService.rebuildItemCounters();
+
+        assertCounters(2, 1);
+        assertEquals(9, jdbcTemplate.queryForObject("SELECT total_items FROM task WHERE id = ?", Integer.class, deletedTask));
+    }
+
+    @Test
+    void givenCountersRightButCompletedFlagWrong_whenRepairJobRuns_thenFlagFollowsCounters() {
+        Long first = itemId(createItem("First"), "First");
+        toggleItem(first);
+        Long boardId = jdbcTemplate.queryForObject("SELECT board_id FROM task WHERE id = ?", Long.class, taskId);
+        Long withoutItems = exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest("No items"), TaskResponse.class)
+                .getBody().getId();
+        exchange("/api/v1/task/toggle/" + withoutItems, HttpMethod.PATCH, null, TaskResponse.class);
+        jdbcTemplate.update("UPDATE task SET completed = false WHERE id = ?", taskId);
+
+        taskCounterRepairService.rebuildItemCounters();
+
+        assertCounters(1, 1);
+        assertTrue(jdbcTemplate.queryForObject("SELECT completed FROM task WHERE id = ?", Boolean.class, taskId));
+        assertTrue(jdbcTemplate.queryForObject("SELECT completed FROM task WHERE id = ?", Boolean.class, withoutItems));
+    }
+
+    @Test
+    void givenPartlyCheckedTask_whenCompletingAllAndTogglingAnItem_thenCompletionFollowsItems() {
+        Long first = itemId(createItem("First"), "First");
+        createItem("Second");
+        Long third = itemId(createItem("Third"), "Third");
+        toggleItem(first);
+        Long boardId = jdbcTemplate.queryForObject("SELECT board_id FROM task WHERE id = ?", Long.class, taskId);
+
+        exchange("/api/v1/task/" + boardId + "/complete-all", HttpMethod.PATCH, null, BulkTaskResponse.class);
+
+        assertCounters(3, 3);
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM item WHERE task_id = ? AND item_checked = true", Long.class, taskId));
+
+        TaskResponse unchecked = toggleItem(third);
+        assertFalse(unchecked.isCompleted());
+        assertCounters(3, 2);
+
+        assertTrue(toggleItem(third).isCompleted());
+        assertCounters(3, 3);
+    }
+
+    @Test
+    void givenConcurrentToggles_whenHammeringOneItem_thenNoToggleIsLostAndTaskCompletionAgrees() throws Exception {
+        Long checked = itemId(createItem("Checked"), "Checked");
+        Long contended = itemId(createItem("Contended"), "Contended");
+        toggleItem(checked);
+
+        int threads = 8;
+        int togglesPerThread = 13;
+        List<HttpStatusCode> statuses = runConcurrently(threads, togglesPerThread,
+                () -> exchange("/api/v1/item/toggle/" + contended, HttpMethod.PATCH, null, TaskResponse.class).getStatusCode());
+
+        assertTrue(statuses.stream().allMatch(HttpStatus.OK::equals));
+        boolean expectedChecked = (threads * togglesPerThread) % 2 == 1;
+        Boolean contendedChecked = jdbcTemplate.queryForObject("SELECT item_checked FROM item WHERE id = ?", Boolean.class, contended);
+        assertEquals(expectedChecked, contendedChecked);
+        assertCounters(2, expectedChecked ? 2 : 1);
+        assertEquals(expectedChecked, taskRepository.findById(taskId).orElseThrow().isCompleted());
+    }
+
+    @Test
+    void givenConcurrentToggles_whenHammeringOneTask_thenNoToggleIsLost() throws Exception {
+        int threads = 8;
+        int togglesPerThread = 13;
+        List<HttpStatusCode> statuses = runConcurrently(threads, togglesPerThread,
+                () -> exchange("/api/v1/task/toggle/" + taskId, HttpMethod.PATCH, null, TaskResponse.class).getStatusCode());
+
+        assertTrue(statuses.stream().allMatch(HttpStatus.OK::equals));
+        assertEquals((threads * togglesPerThread) % 2 == 1, taskRepository.findById(taskId).orElseThrow().isCompleted());
+    }
+
+    private <T> List<T> runConcurrently(int threads, int callsPerThread, Callable<T> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<T>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<T> results = new ArrayList<>();
+                    for (int j = 0; j < callsPerThread; j++) {
+                        results.add(call.call());
+                    }
+                    return results;
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<List<T>> future : futures) {
+                results.addAll(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long itemId(TaskResponse task, String title) {
+        return task.getItems().stream()
+                .filter(i -> i.getTitle().equals(title))
+                .findFirst()
+                .orElseThrow()
+                .getId();
+    }
+
+    private void assertCounters(int totalItems, int checkedItems) {
+        Task task = taskRepository.findById(taskId).orElseThrow();
+        assertEquals(totalItems, task.getTotalItems());
+        assertEquals(checkedItems, task.getCheckedItems());
+    }
+
+    private TaskResponse createItem(String title) {
+        return exchange("/api/v1/item/" + taskId, HttpMethod.POST, new ItemRequest(title), TaskResponse.class)
+                .getBody();
+    }
+
+    private TaskResponse toggleItem(Long itemId) {
+        return exchange("/api/v1/item/toggle/" + itemId, HttpMethod.PATCH, null, TaskResponse.class)
+                .getBody();
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers), type);
+    }
+}
@@ -0,0 +1,121 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import diegobustos.my_task_planner_backend.config.SqlStatementMetricsFilter;
+import diegobustos.my_task_planner_backend.dto.*;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.*;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=test"
+)
+@AutoConfigureObservability(tracing = false)
+class MetricsIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email("metrics-" + UUID.randomUUID() + "@example.com")
+                .password("Password123")
+                .build();
+        token = restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class)
+                .getBody()
+                .getToken();
+    }
+
+    @Test
+    void givenTraffic_whenScrapingPrometheus_thenEndpointServiceAndPoolMetricsArePublished() {
+        Long boardId = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Board"), BoardResponse.class).getBody().getId();
+        Long taskId = exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest("Task"), TaskResponse.class).getBody().getId();
+        Long itemId = exchange("/api/v1/item/" + taskId, HttpMethod.POST, new ItemRequest("Item"), TaskResponse.class)
+                .getBody().getItems().get(0).getId();
+        exchange("/api/v1/item/toggle/" + itemId, HttpMethod.PATCH, null, TaskResponse.class);
+        exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity(managementUrl("/actuator/prometheus"), String.class);
+
+        assertEquals(HttpStatus.OK, scrape.getStatusCode());
+        String body = scrape.getBody();
+        assertTrue(body.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(body.contains("uri=\"/api/v1/item/toggle/{id}\""));
+        assertTrue(body.contains("service_method_seconds_bucket{"));
+        assertTrue(body.contains("method=\"getAllTasks\""));
+        assertTrue(body.contains("method=\"toggleItemCompletion\""));
+        assertTrue(body.contains("method=\"login\"") || body.contains("method=\"registerUser\""));
+        assertTrue(body.contains("hikaricp_connections_active"));
+        assertTrue(body.contains("http_server_requests_sql_statements_count{"));
+        assertTrue(body.contains("cache_gets_total{cache=\"principals\""));
+        assertTrue(body.contains("cache_gets_total{cache=\"verifiedTokens\""));
+    }
+
+    @Test
+    void givenPublicPort_whenScrapingPrometheus_thenRequestIsRejected() {
+        ResponseEntity<String> anonymous = restTemplate.getForEntity("/actuator/prometheus", String.class);
+        ResponseEntity<String> authenticated = exchange("/actuator/prometheus", HttpMethod.GET, null, String.class);
+
+        assertEquals(HttpStatus.FORBIDDEN, anonymous.getStatusCode());
+        assertNotEquals(HttpStatus.OK, authenticated.getStatusCode());
+        assertEquals(HttpStatus.OK, restTemplate.getForEntity(managementUrl("/actuator/health"), String.class).getStatusCode());
+    }
+
+    @Test
+    void givenTaskListing_whenRequestCompletes_thenStatementsAreRecordedPerEndpoint() {
+        Long boardId = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Board"), BoardResponse.class).getBody().getId();
+        DistributionSummary before = meterRegistry.find(SqlStatementMetricsFilter.STATEMENTS_METRIC)
+                .tag("method", "GET").tag("uri", "/api/v1/task/{id}").summary();
+        long countBefore = before == null ? 0 : before.count();
+
+        exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class);
+
+        DistributionSummary after = meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METRIC)
+                .tag("method", "GET").tag("uri", "/api/v1/task/{id}").summary();
+        assertEquals(countBefore + 1, after.count());
+        assertTrue(after.max() > 0);
+    }
+
+    @Test
+    void givenSlowQueryLogging_whenContextStarts_thenDataSourceIsProxied() {
+        assertInstanceOf(ProxyDataSource.class, dataSource);
+    }
+
+    private String managementUrl(String path) {
+        return "http://localhost:" + managementPort + path;
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers), type);
+    }
+}
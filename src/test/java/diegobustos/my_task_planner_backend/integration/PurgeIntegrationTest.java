@@ -0,0 +1,200 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import diegobustos.my_task_planner_backend.dto.*;
+import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.service.JobLockService;
+import diegobustos.my_task_planner_backend.service.PurgeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=test"
+)
+class PurgeIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private PurgeService purgeService;
+
+    @Autowired
+    private JobLockService jobLockService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        email = "purge-" + UUID.randomUUID() + "@example.com";
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email(email)
+                .password("Password123")
+                .build();
+        token = restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class)
+                .getBody()
+                .getToken();
+    }
+
+    @Test
+    void givenRowsDeletedBeforeAndWithinRetention_whenPurging_thenOnlyExpiredOnesAreRemovedChildrenFirst() {
+        Long expiredBoard = createBoardWithTasks(3);
+        Long recentBoard = createBoardWithTasks(1);
+        Long liveBoard = createBoardWithTasks(2);
+        Long expiredTask = createTask(liveBoard, "Expired task");
+        createItem(expiredTask, "Live item of an expired task");
+        Long expiredItem = createItem(createTask(liveBoard, "Task with expired item"), "Expired item");
+
+        exchange("/api/v1/board/" + expiredBoard, HttpMethod.DELETE, null, Void.class);
+        exchange("/api/v1/board/" + recentBoard, HttpMethod.DELETE, null, Void.class);
+        exchange("/api/v1/task/" + expiredTask, HttpMethod.DELETE, null, Void.class);
+        exchange("/api/v1/item/" + expiredItem, HttpMethod.DELETE, null, TaskResponse.class);
+        // The board cascade stamped its tasks, items and memberships; the purge takes them along with the board
+        Timestamp longAgo = Timestamp.from(Instant.now().minus(Duration.ofDays(60)));
+        jdbcTemplate.update("UPDATE board SET deleted_at = ? WHERE id = ?", longAgo, expiredBoard);
+        jdbcTemplate.update("UPDATE task SET deleted_at = ? WHERE id = ?", longAgo, expiredTask);
+        jdbcTemplate.update("UPDATE item SET deleted_at = ? WHERE id = ?", longAgo, expiredItem);
+        double itemsBefore = purgedRows("item");
+
+        purgeService.purgeSoftDeleted();
+
+        assertEquals(0, count("SELECT COUNT(*) FROM board WHERE id = ?", expiredBoard));
+        assertEquals(0, count("SELECT COUNT(*) FROM task WHERE board_id = ?", expiredBoard));
+        assertEquals(0, count("SELECT COUNT(*) FROM user_board WHERE board_id = ?", expiredBoard));
+        assertEquals(0, count("SELECT COUNT(*) FROM task WHERE id = ?", expiredTask));
+        assertEquals(0, count("SELECT COUNT(*) FROM item WHERE id = ?", expiredItem));
+        assertEquals(1, count("SELECT COUNT(*) FROM board WHERE id = ?", recentBoard));
+        assertEquals(1, count("SELECT COUNT(*) FROM task WHERE board_id = ?", recentBoard));
+        assertEquals(3, count("SELECT COUNT(*) FROM task WHERE board_id = ?", liveBoard));
+        assertEquals(5, purgedRows("item") - itemsBefore);
+    }
+
+    @Test
+    void givenDeletedUser_whenPurging_thenUserAndEverythingItOwnedAreRemoved() {
+        createBoardWithTasks(2);
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+        exchange("/api/v1/user/me", HttpMethod.DELETE, null, Void.class);
+        Timestamp longAgo = Timestamp.from(Instant.now().minus(Duration.ofDays(60)));
+        jdbcTemplate.update("UPDATE users SET deleted_at = ? WHERE id = ?", longAgo, userId);
+        jdbcTemplate.update("UPDATE user_board SET deleted_at = ? WHERE user_id = ?", longAgo, userId);
+        jdbcTemplate.update("UPDATE board SET deleted_at = ? WHERE id IN (SELECT board_id FROM user_board WHERE user_id = ?)", longAgo, userId);
+
+        purgeService.purgeSoftDeleted();
+
+        assertEquals(0, count("SELECT COUNT(*) FROM users WHERE id = ?", userId));
+        assertEquals(0, count("SELECT COUNT(*) FROM user_board WHERE user_id = ?", userId));
+    }
+
+    @Test
+    void givenLockHeldByAnotherNode_whenPurging_thenNothingIsRemovedUntilItExpires() {
+        Long board = createBoardWithTasks(1);
+        exchange("/api/v1/board/" + board, HttpMethod.DELETE, null, Void.class);
+        jdbcTemplate.update("UPDATE board SET deleted_at = ? WHERE id = ?", Timestamp.from(Instant.now().minus(Duration.ofDays(60))), board);
+
+        jobLockService.tryLock(PurgeService.LOCK_NAME, Duration.ZERO);
+        jdbcTemplate.update("UPDATE job_lock SET locked_by = 'other-node', locked_until = ? WHERE name = ?",
+                Timestamp.from(Instant.now().plus(Duration.ofMinutes(5))), PurgeService.LOCK_NAME);
+
+        purgeService.purgeSoftDeleted();
+        assertEquals(1, count("SELECT COUNT(*) FROM board WHERE id = ?", board));
+
+        jdbcTemplate.update("UPDATE job_lock SET locked_until = ? WHERE name = ?", Timestamp.from(Instant.now()), PurgeService.LOCK_NAME);
+
+        purgeService.purgeSoftDeleted();
+        assertEquals(0, count("SELECT COUNT(*) FROM board WHERE id = ?", board));
+        assertTrue(jobLockService.tryLock(PurgeService.LOCK_NAME, Duration.ZERO));
+    }
+
+    @Test
+    void givenNoLockRowYet_whenNodesRaceForIt_thenExactlyOneAcquiresIt() throws Exception {
+        String name = "race-" + UUID.randomUUID().toString().substring(0, 8);
+        int nodes = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(nodes);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < nodes; i++) {
+                Callable<Boolean> attempt = () -> {
+                    start.await();
+                    return jobLockService.tryLock(name, Duration.ofMinutes(5));
+                };
+                results.add(executor.submit(attempt));
+            }
+            start.countDown();
+
+            int acquired = 0;
+            for (Future<Boolean> result : results) {
+                acquired += result.get() ? 1 : 0;
+            }
+            assertEquals(1, acquired);
+            assertEquals(1, count("SELECT COUNT(*) FROM job_lock WHERE name = ?", name));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long createBoardWithTasks(int tasks) {
+        Long boardId = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Board"), BoardResponse.class).getBody().getId();
+        for (int i = 0; i < tasks; i++) {
+            createItem(createTask(boardId, "Task " + i), "Item " + i);
+        }
+        return boardId;
+    }
+
+    private Long createTask(Long boardId, String title) {
+        return exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest(title), TaskResponse.class).getBody().getId();
+    }
+
+    private Long createItem(Long taskId, String title) {
+        return exchange("/api/v1/item/" + taskId, HttpMethod.POST, new ItemRequest(title), TaskResponse.class).getBody()
+                .getItems().stream().filter(item -> item.getTitle().equals(title)).findFirst().orElseThrow().getId();
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+
+    private double purgedRows(String table) {
+        return meterRegistry.find(PurgeService.ROWS_METRIC).tag("table", table).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers), type);
+    }
+}
@@ -0,0 +1,122 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import diegobustos.my_task_planner_backend.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static diegobustos.my_task_planner_backend.support.QueryBudget.assertStatements;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=test"
+)
+class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        email = "budget-" + UUID.randomUUID() + "@example.com";
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email(email)
+                .password("Password123")
+                .build();
+        token = restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class)
+                .getBody()
+                .getToken();
+        // Load the principal into the cache so budgets below measure the endpoint, not the first-use lookup.
+        exchange("/api/v1/user/me", HttpMethod.GET, null, UserResponse.class);
+    }
+
+    @Test
+    void authController() {
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email("budget-" + UUID.randomUUID() + "@example.com")
+                .password("Password123")
+                .build();
+        assertStatements(2, restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class));
+        assertStatements(2, restTemplate.postForEntity("/api/v1/auth/login", new AuthRequest(email, "Password123"), AuthResponse.class));
+    }
+
+    @Test
+    void userController() {
+        assertStatements(1, exchange("/api/v1/user/me", HttpMethod.GET, null, UserResponse.class));
+        assertStatements(2, exchange("/api/v1/user/me", HttpMethod.PATCH, new UpdateUserRequest("New", "Name"), UserResponse.class));
+    }
+
+    @Test
+    void boardController() {
+        Long boardId = assertStatements(3, exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Board"), BoardResponse.class))
+                .getBody().getId();
+        assertStatements(1, exchange("/api/v1/board/me", HttpMethod.GET, null, String.class));
+        assertStatements(1, exchange("/api/v1/board/me?cursor=", HttpMethod.GET, null, String.class));
+        assertStatements(2, exchange("/api/v1/board/" + boardId, HttpMethod.PATCH, new BoardRequest("Renamed"), BoardResponse.class));
+    }
+
+    @Test
+    void taskController() {
+        Long boardId = createBoard();
+        Long taskId = assertStatements(3, exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest("Task"), TaskResponse.class))
+                .getBody().getId();
+        exchange("/api/v1/item/" + taskId, HttpMethod.POST, new ItemRequest("Item"), TaskResponse.class);
+
+        assertStatements(3, exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class));
+        assertStatements(3, exchange("/api/v1/task/" + boardId + "?cursor=", HttpMethod.GET, null, String.class));
+        assertStatements(4, exchange("/api/v1/task/toggle/" + taskId, HttpMethod.PATCH, null, TaskResponse.class));
+        assertStatements(3, exchange("/api/v1/task/" + taskId, HttpMethod.PATCH, new TaskRequest("Renamed"), TaskResponse.class));
+
+        // Bulk operations are one access check plus set-based UPDATEs, however many tasks they touch;
+        // complete-all also checks the items of the tasks it completes.
+        Long otherBoardId = createBoard();
+        assertStatements(3, exchange("/api/v1/task/" + boardId + "/complete-all", HttpMethod.PATCH, null, BulkTaskResponse.class));
+        assertStatements(2, exchange("/api/v1/task/move", HttpMethod.PATCH, new MoveTasksRequest(List.of(taskId), otherBoardId), BulkTaskResponse.class));
+        assertStatements(2, exchange("/api/v1/task/" + otherBoardId + "/completed", HttpMethod.DELETE, null, BulkTaskResponse.class));
+    }
+
+    @Test
+    void itemController() {
+        Long boardId = createBoard();
+        Long taskId = exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest("Task"), TaskResponse.class).getBody().getId();
+
+        Long itemId = assertStatements(5, exchange("/api/v1/item/" + taskId, HttpMethod.POST, new ItemRequest("Item"), TaskResponse.class))
+                .getBody().getItems().get(0).getId();
+        assertStatements(6, exchange("/api/v1/item/toggle/" + itemId, HttpMethod.PATCH, null, TaskResponse.class));
+        assertStatements(3, exchange("/api/v1/item/" + itemId, HttpMethod.PATCH, new ItemRequest("Renamed"), TaskResponse.class));
+        assertStatements(6, exchange("/api/v1/item/" + itemId, HttpMethod.DELETE, null, TaskResponse.class));
+
+        // Bulk creation costs the same whatever the list length: inserts go out as one JDBC batch.
+        assertStatements(5, exchange("/api/v1/item/" + taskId + "/bulk", HttpMethod.POST, bulk(3), TaskResponse.class));
+        assertStatements(5, exchange("/api/v1/item/" + taskId + "/bulk", HttpMethod.POST, bulk(40), TaskResponse.class));
+    }
+
+    private BulkItemRequest bulk(int items) {
+        return new BulkItemRequest(IntStream.range(0, items).mapToObj(i -> new ItemRequest("Item " + i)).toList());
+    }
+
+    private Long createBoard() {
+        return exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Board"), BoardResponse.class).getBody().getId();
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers), type);
+    }
+}
@@ -0,0 +1,91 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.support.QueryPlans;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Plans the hot repository queries on a real PostgreSQL with the production migrations applied.
+// Skipped where no Docker daemon is available.
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.profiles.active=test",
+                "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                "spring.flyway.enabled=true",
+                "spring.jpa.hibernate.ddl-auto=validate"
+        }
+)
+class QueryPlanIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void givenTaskListings_whenExplained_thenBoardIndexServesFilterAndOrder() throws Throwable {
+        List<String> plans = QueryPlans.assertNoSequentialScans(dataSource, () -> {
+            taskRepository.findByBoardIdAndDeletedAtIsNullOrderByCreatedAtDesc(1L);
+            taskRepository.findFirstSliceByBoardId(1L, null, Limit.of(20));
+            taskRepository.findFirstSliceByBoardId(1L, true, Limit.of(20));
+            taskRepository.findSliceByBoardIdAfter(1L, null, Instant.now(), 42L, Limit.of(20));
+        });
+
+        assertTrue(plans.stream().allMatch(plan -> plan.contains("idx_task_board_live")), String.join("\n\n", plans));
+    }
+
+    @Test
+    void givenItemLookupsByTask_whenExplained_thenLiveItemIndexIsUsed() throws Throwable {
+        List<String> plans = QueryPlans.assertNoSequentialScans(dataSource, () -> {
+            itemRepository.findByTaskIdAndDeletedAtIsNull(1L);
+            itemRepository.findByTaskIdInAndDeletedAtIsNull(List.of(1L, 2L, 3L));
+        });
+
+        assertTrue(plans.stream().allMatch(plan -> plan.contains("idx_item_task_live")), String.join("\n\n", plans));
+    }
+
+    @Test
+    void givenAccessChecksAndBoardListings_whenExplained_thenNoSequentialScans() throws Throwable {
+        QueryPlans.assertNoSequentialScans(dataSource, () -> {
+            boardRepository.findByUserIdAndBoardIdAndDeletedAtIsNull(1L, 1L);
+            boardRepository.findFirstSliceByUserId(1L, Limit.of(20));
+            boardRepository.findSliceByUserIdAfter(1L, Instant.now(), 42L, Limit.of(20));
+            boardRepository.findByUserId(1L, PageRequest.of(0, 10));
+            taskRepository.findAccessibleByIdAndUserId(1L, 1L);
+            itemRepository.findAccessibleByIdAndUserId(1L, 1L);
+            userRepository.findByEmailAndDeletedAtIsNull("someone@example.com");
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import diegobustos.my_task_planner_backend.dto.AuthResponse;
+import diegobustos.my_task_planner_backend.dto.RegisterRequest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the production schema setup (Flyway + ddl-auto=validate) on H2 in PostgreSQL mode, so a migration
+// that drifts from the entity mappings fails here instead of at deploy time.
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.profiles.active=test",
+                "spring.datasource.url=jdbc:h2:mem:migrations;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.flyway.enabled=true",
+                "spring.jpa.hibernate.ddl-auto=validate"
+        }
+)
+class SchemaMigrationIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void givenMigratedSchema_whenContextStarts_thenAllMigrationsAreAppliedAndMappingsValidate() {
+        MigrationInfo[] applied = flyway.info().applied();
+
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(applied.length > 0);
+        assertTrue(Arrays.stream(applied).allMatch(m -> m.getState().isApplied() && !m.getState().isFailed()));
+    }
+
+    @Test
+    void givenMigratedSchema_whenRegistering_thenUserIsPersisted() {
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email("migrations-" + UUID.randomUUID() + "@example.com")
+                .password("Password123")
+                .build();
+
+        ResponseEntity<AuthResponse> res = restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class);
+
+        assertEquals(HttpStatus.OK, res.getStatusCode());
+        assertNotNull(res.getBody().getToken());
+    }
+
+    @Test
+    void givenDatabaseBaselinedAtV1_whenMigrating_thenItemCountersAreAddedAndBackfilled() throws Exception {
+        String url = "jdbc:h2:mem:baselined-" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        String baseline = new ClassPathResource("db/migration/V1__baseline_schema.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute(baseline);
+            statement.execute("insert into board (id, title, created_at, updated_at) values (1, 'Board', now(), now())");
+            statement.execute("insert into task (id, title, board_id, completed, created_at, updated_at) "
+                    + "values (1, 'Task', 1, false, now(), now())");
+            statement.execute("insert into item (title, item_checked, task_id, created_at, updated_at) values "
+                    + "('A', true, 1, now(), now()), ('B', false, 1, now(), now())");
+            statement.execute("insert into item (title, item_checked, task_id, created_at, updated_at, deleted_at) "
+                    + "values ('C', true, 1, now(), now(), now())");
+        }
+
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet counters = statement.executeQuery("select total_items, checked_items from task where id = 1")) {
+            assertTrue(counters.next());
+            assertEquals(2, counters.getInt("total_items"));
+            assertEquals(1, counters.getInt("checked_items"));
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import diegobustos.my_task_planner_backend.dto.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=test"
+)
+class TaskIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        token = registerUser();
+    }
+
+    @Test
+    void givenBoardsOfDifferentSizes_whenGetAllTasks_thenStatementCountIsConstant() {
+        Long smallBoard = createBoardWithTasks(1, 2);
+        Long largeBoard = createBoardWithTasks(12, 2);
+
+        long smallBoardStatements = countStatementsForGetAllTasks(smallBoard, 1);
+        long largeBoardStatements = countStatementsForGetAllTasks(largeBoard, 12);
+
+        assertEquals(smallBoardStatements, largeBoardStatements);
+    }
+
+    @Test
+    void givenTasksWithItems_whenGetAllTasks_thenEachTaskReturnsOnlyItsOwnLiveItems() {
+        Long boardId = createBoard();
+        TaskResponse first = createTask(boardId, "First");
+        TaskResponse second = createTask(boardId, "Second");
+        createItem(first.getId(), "First item");
+        createItem(second.getId(), "Second item");
+        TaskResponse withDeleted = createItem(second.getId(), "Deleted item");
+        Long deletedItemId = withDeleted.getItems().get(withDeleted.getItems().size() - 1).getId();
+        exchange("/api/v1/item/" + deletedItemId, HttpMethod.DELETE, null, TaskResponse.class);
+
+        TaskResponse[] tasks = exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class).getBody();
+
+        assertNotNull(tasks);
+        assertEquals(2, tasks.length);
+        assertEquals("Second", tasks[0].getTitle());
+        assertEquals(1, tasks[0].getItems().size());
+        assertEquals("Second item", tasks[0].getItems().get(0).getTitle());
+        assertEquals("First", tasks[1].getTitle());
+        assertEquals(1, tasks[1].getItems().size());
+        assertEquals("First item", tasks[1].getItems().get(0).getTitle());
+    }
+
+    @Test
+    void givenTaskOnAnotherUsersBoard_whenAccessTaskOrItem_thenReturnNotFound() {
+        Long boardId = createBoard();
+        TaskResponse task = createTask(boardId, "Private");
+        Long itemId = createItem(task.getId(), "Private item").getItems().get(0).getId();
+
+        token = registerUser();
+
+        assertEquals(HttpStatus.NOT_FOUND,
+                exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                exchange("/api/v1/task/toggle/" + task.getId(), HttpMethod.PATCH, null, String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                exchange("/api/v1/item/" + task.getId(), HttpMethod.POST, new ItemRequest("Intruder"), String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                exchange("/api/v1/item/toggle/" + itemId, HttpMethod.PATCH, null, String.class).getStatusCode());
+    }
+
+    @Test
+    void givenLargeBoard_whenWalkingCursorWithCompletedFilter_thenSlicesAreBoundedAndFiltered() {
+        Long boardId = createBoard();
+        List<Long> completedIds = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            TaskResponse task = createTask(boardId, "Task " + i);
+            createItem(task.getId(), "Item " + i);
+            if (i % 3 == 0) {
+                exchange("/api/v1/task/toggle/" + task.getId(), HttpMethod.PATCH, null, TaskResponse.class);
+                completedIds.add(0, task.getId());
+            }
+        }
+
+        List<Long> walked = new ArrayList<>();
+        List<Long> statementsPerSlice = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            statistics.clear();
+            JsonNode slice = exchange("/api/v1/task/" + boardId + "?size=2&completed=true&cursor=" + cursor,
+                    HttpMethod.GET, null, JsonNode.class).getBody();
+            statementsPerSlice.add(statistics.getPrepareStatementCount());
+            assertTrue(slice.get("content").size() <= 2);
+            slice.get("content").forEach(task -> {
+                assertTrue(task.get("completed").asBoolean());
+                assertEquals(1, task.get("items").size());
+                walked.add(task.get("id").asLong());
+            });
+            cursor = slice.get("hasNext").asBoolean() ? slice.get("nextCursor").asText() : null;
+        }
+
+        assertEquals(completedIds, walked);
+        assertEquals(2, statementsPerSlice.size());
+        assertEquals(statementsPerSlice.get(0), statementsPerSlice.get(1));
+        assertEquals(9, exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class).getBody().length);
+    }
+
+    @Test
+    void givenBoardWithMixedTasks_whenCompletingAllAndClearingCompleted_thenCountsMatchAndBoardEmpties() {
+        Long boardId = createBoard();
+        for (int i = 0; i < 5; i++) {
+            TaskResponse task = createTask(boardId, "Task " + i);
+            if (i < 2) {
+                exchange("/api/v1/task/toggle/" + task.getId(), HttpMethod.PATCH, null, TaskResponse.class);
+            }
+        }
+
+        assertEquals(2, bulk("/api/v1/task/" + boardId + "/completed", HttpMethod.DELETE, null));
+        assertEquals(3, exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class).getBody().length);
+
+        assertEquals(3, bulk("/api/v1/task/" + boardId + "/complete-all", HttpMethod.PATCH, null));
+        assertEquals(0, bulk("/api/v1/task/" + boardId + "/complete-all", HttpMethod.PATCH, null));
+        assertEquals(3, bulk("/api/v1/task/" + boardId + "/completed", HttpMethod.DELETE, null));
+        assertEquals(0, exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class).getBody().length);
+    }
+
+    @Test
+    void givenTasksAcrossUsers_whenMoving_thenOnlyAccessibleTasksMoveToAccessibleBoards() {
+        Long foreignBoard = createBoard();
+        Long foreignTask = createTask(foreignBoard, "Foreign").getId();
+
+        token = registerUser();
+        Long source = createBoard();
+        Long target = createBoard();
+        Long first = createTask(source, "First").getId();
+        Long second = createTask(source, "Second").getId();
+        createItem(first, "Follows the task");
+
+        assertEquals(2, bulk("/api/v1/task/move", HttpMethod.PATCH, new MoveTasksRequest(List.of(first, second, foreignTask), target)));
+        assertEquals(0, exchange("/api/v1/task/" + source, HttpMethod.GET, null, TaskResponse[].class).getBody().length);
+        TaskResponse[] moved = exchange("/api/v1/task/" + target, HttpMethod.GET, null, TaskResponse[].class).getBody();
+        assertEquals(2, moved.length);
+        assertEquals(1, moved[1].getItems().size());
+
+        assertEquals(HttpStatus.NOT_FOUND, exchange("/api/v1/task/move", HttpMethod.PATCH,
+                new MoveTasksRequest(List.of(first), foreignBoard), String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, exchange("/api/v1/task/" + foreignBoard + "/completed", HttpMethod.DELETE, null, String.class).getStatusCode());
+    }
+
+    private int bulk(String url, HttpMethod method, Object body) {
+        ResponseEntity<BulkTaskResponse> res = exchange(url, method, body, BulkTaskResponse.class);
+        assertEquals(HttpStatus.OK, res.getStatusCode());
+        return res.getBody().getAffected();
+    }
+
+    private String registerUser() {
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email("tasks-" + UUID.randomUUID() + "@example.com")
+                .password("Password123")
+                .build();
+        return restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class)
+                .getBody()
+                .getToken();
+    }
+
+    private long countStatementsForGetAllTasks(Long boardId, int expectedTasks) {
+        statistics.clear();
+        ResponseEntity<TaskResponse[]> res = exchange("/api/v1/task/" + boardId, HttpMethod.GET, null, TaskResponse[].class);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertEquals(HttpStatus.OK, res.getStatusCode());
+        assertNotNull(res.getBody());
+        assertEquals(expectedTasks, res.getBody().length);
+        return statements;
+    }
+
+    private Long createBoardWithTasks(int tasks, int itemsPerTask) {
+        Long boardId = createBoard();
+        for (int i = 0; i < tasks; i++) {
+            TaskResponse task = createTask(boardId, "Task " + i);
+            for (int j = 0; j < itemsPerTask; j++) {
+                createItem(task.getId(), "Item " + j);
+            }
+        }
+        return boardId;
+    }
+
+    private Long createBoard() {
+        return exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Board"), BoardResponse.class)
+                .getBody()
+                .getId();
+    }
+
+    private TaskResponse createTask(Long boardId, String title) {
+        return exchange("/api/v1/task/" + boardId, HttpMethod.POST, new TaskRequest(title), TaskResponse.class)
+                .getBody();
+    }
+
+    private TaskResponse createItem(Long taskId, String title) {
+        return exchange("/api/v1/item/" + taskId, HttpMethod.POST, new ItemRequest(title), TaskResponse.class)
+                .getBody();
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers), type);
+    }
+}
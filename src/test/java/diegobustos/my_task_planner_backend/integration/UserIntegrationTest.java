@@ -0,0 +1,267 @@
+package diegobustos.my_task_planner_backend.integration;
+
+import diegobustos.my_task_planner_backend.config.CacheConfig;
+import diegobustos.my_task_planner_backend.dto.AuthRequest;
+import diegobustos.my_task_planner_backend.dto.AuthResponse;
+import diegobustos.my_task_planner_backend.dto.BoardRequest;
+import diegobustos.my_task_planner_backend.dto.BoardResponse;
+import diegobustos.my_task_planner_backend.dto.RegisterRequest;
+import diegobustos.my_task_planner_backend.dto.TaskRequest;
+import diegobustos.my_task_planner_backend.dto.TaskResponse;
+import diegobustos.my_task_planner_backend.dto.UpdatePasswordRequest;
+import diegobustos.my_task_planner_backend.dto.UserResponse;
+import diegobustos.my_task_planner_backend.entity.Board;
+import diegobustos.my_task_planner_backend.entity.User;
+import diegobustos.my_task_planner_backend.entity.UserBoard;
+import diegobustos.my_task_planner_backend.repository.UserBoardRepository;
+import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.service.AuthService;
+import diegobustos.my_task_planner_backend.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.profiles.active=test"
+)
+class UserIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private UserBoardRepository userBoardRepository;
+
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        email = "users-" + UUID.randomUUID() + "@example.com";
+        RegisterRequest register = RegisterRequest.builder()
+                .firstName("Name")
+                .lastName("Lastname")
+                .email(email)
+                .password("Password123")
+                .build();
+        token = restTemplate.postForEntity("/api/v1/auth/register", register, AuthResponse.class)
+                .getBody()
+                .getToken();
+    }
+
+    @Test
+    void givenRepeatedRequests_whenAuthenticating_thenPrincipalIsServedFromCache() {
+        double hitsBefore = cacheGets("hit");
+        double missesBefore = cacheGets("miss");
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpStatus.OK, exchange("/api/v1/user/me", HttpMethod.GET, null, UserResponse.class).getStatusCode());
+        }
+
+        assertEquals(1, cacheGets("miss") - missesBefore);
+        assertEquals(2, cacheGets("hit") - hitsBefore);
+        assertEquals("", principalsCache().get(email, UserDetails.class).getPassword());
+    }
+
+    @Test
+    void givenCachedPrincipal_whenPasswordChanges_thenEntryIsEvicted() {
+        exchange("/api/v1/user/me", HttpMethod.GET, null, UserResponse.class);
+        assertNotNull(principalsCache().get(email));
+
+        ResponseEntity<Void> res = exchange("/api/v1/user/me/password", HttpMethod.PATCH,
+                new UpdatePasswordRequest("Password123", "NewPassword123"), Void.class);
+
+        assertTrue(res.getStatusCode().is2xxSuccessful());
+        assertNull(principalsCache().get(email));
+    }
+
+    @Test
+    void givenCachedPrincipal_whenUserIsDeleted_thenTokenStopsWorkingImmediately() {
+        assertEquals(HttpStatus.OK, exchange("/api/v1/user/me", HttpMethod.GET, null, UserResponse.class).getStatusCode());
+
+        exchange("/api/v1/user/me", HttpMethod.DELETE, null, Void.class);
+
+        assertNull(principalsCache().get(email));
+        assertEquals(HttpStatus.FORBIDDEN, exchange("/api/v1/user/me", HttpMethod.GET, null, String.class).getStatusCode());
+        // The stale token leaves the request anonymous rather than failing it, so public endpoints still answer
+        assertEquals(HttpStatus.OK, exchange("/api/v1/auth/restore", HttpMethod.POST,
+                new AuthRequest(email, "Password123"), AuthResponse.class).getStatusCode());
+    }
+
+    @Test
+    void givenUserWithOwnAndSharedBoards_whenDeletedAndRestored_thenOnlyOwnBoardsFollowTheUser() {
+        String ownerToken = token;
+        token = restTemplate.postForEntity("/api/v1/auth/register", RegisterRequest.builder()
+                .firstName("Other").lastName("Member").email("users-" + UUID.randomUUID() + "@example.com").password("Password123")
+                .build(), AuthResponse.class).getBody().getToken();
+        Long sharedBoard = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Shared"), BoardResponse.class).getBody().getId();
+
+        token = ownerToken;
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+        Long ownBoard = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Own"), BoardResponse.class).getBody().getId();
+        Long task = exchange("/api/v1/task/" + ownBoard, HttpMethod.POST, new TaskRequest("Task"), TaskResponse.class).getBody().getId();
+        userBoardRepository.save(UserBoard.builder()
+                .user(User.builder().id(userId).build())
+                .board(Board.builder().id(sharedBoard).build())
+                .build());
+
+        exchange("/api/v1/user/me", HttpMethod.DELETE, null, Void.class);
+
+        assertTrue(isDeleted("board", ownBoard));
+        assertTrue(isDeleted("task", task));
+        assertFalse(isDeleted("board", sharedBoard));
+        assertEquals(0, liveMemberships(userId));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_board WHERE board_id = ? AND deleted_at IS NULL", Long.class, sharedBoard));
+
+        assertEquals(HttpStatus.UNAUTHORIZED, restore("WrongPassword1").getStatusCode());
+        assertTrue(isDeleted("board", ownBoard));
+
+        ResponseEntity<AuthResponse> restored = restore("Password123");
+
+        assertEquals(HttpStatus.OK, restored.getStatusCode());
+        token = restored.getBody().getToken();
+        assertEquals(HttpStatus.OK, exchange("/api/v1/board/" + ownBoard, HttpMethod.PATCH, new BoardRequest("Own"), BoardResponse.class).getStatusCode());
+        assertFalse(isDeleted("board", ownBoard));
+        assertFalse(isDeleted("task", task));
+        assertEquals(2, liveMemberships(userId));
+        assertEquals(HttpStatus.OK, login("Password123").getStatusCode());
+    }
+
+    @Test
+    void givenLiveAccount_whenRestoring_thenRequestIsRejected() {
+        assertEquals(HttpStatus.BAD_REQUEST, restore("Password123").getStatusCode());
+    }
+
+    @Test
+    void givenCascadeFailure_whenDeletingUser_thenUserAndBoardsStayLive() {
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+        Long board = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Own"), BoardResponse.class).getBody().getId();
+        doThrow(new IllegalStateException("boom")).when(userBoardRepository).softDeleteByUserId(eq(userId), any());
+
+        ResponseEntity<String> res = exchange("/api/v1/user/me", HttpMethod.DELETE, null, String.class);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, res.getStatusCode());
+        assertFalse(isDeleted("users", userId));
+        assertFalse(isDeleted("board", board));
+        assertEquals(1, liveMemberships(userId));
+        assertEquals(HttpStatus.OK, exchange("/api/v1/board/" + board, HttpMethod.PATCH, new BoardRequest("Own"), BoardResponse.class).getStatusCode());
+    }
+
+    @Test
+    void givenMembershipLeftEarlier_whenAccessingBoard_thenBoardAndItsTasksAreHidden() {
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+        Long board = exchange("/api/v1/board", HttpMethod.POST, new BoardRequest("Left"), BoardResponse.class).getBody().getId();
+        Long task = exchange("/api/v1/task/" + board, HttpMethod.POST, new TaskRequest("Task"), TaskResponse.class).getBody().getId();
+
+        jdbcTemplate.update("UPDATE user_board SET deleted_at = CURRENT_TIMESTAMP WHERE user_id = ?", userId);
+
+        assertEquals(HttpStatus.NOT_FOUND, exchange("/api/v1/board/" + board, HttpMethod.PATCH, new BoardRequest("Left"), String.class).getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, exchange("/api/v1/task/toggle/" + task, HttpMethod.PATCH, null, String.class).getStatusCode());
+    }
+
+    private boolean isDeleted(String table, Long id) {
+        return jdbcTemplate.queryForObject("SELECT deleted_at IS NOT NULL FROM " + table + " WHERE id = ?", Boolean.class, id);
+    }
+
+    private long liveMemberships(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_board WHERE user_id = ? AND deleted_at IS NULL", Long.class, userId);
+    }
+
+    @Test
+    void givenTokenWithAnotherUsersId_whenAuthenticating_thenTokenIsRejected() {
+        Long userId = userRepository.findByEmail(email).orElseThrow().getId();
+        assertEquals(HttpStatus.OK, exchange("/api/v1/user/me", HttpMethod.GET, null, UserResponse.class).getStatusCode());
+
+        token = jwtService.generateToken(email, userId + 1);
+
+        assertEquals(HttpStatus.FORBIDDEN, exchange("/api/v1/user/me", HttpMethod.GET, null, String.class).getStatusCode());
+    }
+
+    @Test
+    void givenLegacyHash_whenLoggingIn_thenHashIsUpgradedTransparently() {
+        String stored = storedPassword();
+        assertTrue(stored.startsWith("{bcrypt}$2a$04$"));
+
+        assertEquals(HttpStatus.OK, login("Password123").getStatusCode());
+        assertEquals(stored, storedPassword());
+
+        jdbcTemplate.update("UPDATE users SET password = ? WHERE email = ?",
+                new BCryptPasswordEncoder(4).encode("Password123"), email);
+        long loginsBefore = meterRegistry.get(AuthService.LOGIN_COST_METRIC).summary().count();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, login("WrongPassword123").getStatusCode());
+        assertFalse(storedPassword().startsWith("{bcrypt}"));
+
+        assertEquals(HttpStatus.OK, login("Password123").getStatusCode());
+        String upgraded = storedPassword();
+        assertTrue(upgraded.startsWith("{bcrypt}$2a$04$"));
+        assertEquals(HttpStatus.OK, login("Password123").getStatusCode());
+        assertEquals(upgraded, storedPassword());
+        assertEquals(2, meterRegistry.get(AuthService.LOGIN_COST_METRIC).summary().count() - loginsBefore);
+    }
+
+    private ResponseEntity<AuthResponse> restore(String password) {
+        return restTemplate.postForEntity("/api/v1/auth/restore", new AuthRequest(email, password), AuthResponse.class);
+    }
+
+    private ResponseEntity<AuthResponse> login(String password) {
+        return restTemplate.postForEntity("/api/v1/auth/login", new AuthRequest(email, password), AuthResponse.class);
+    }
+
+    private String storedPassword() {
+        return jdbcTemplate.queryForObject("SELECT password FROM users WHERE email = ?", String.class, email);
+    }
+
+    private Cache principalsCache() {
+        return cacheManager.getCache(CacheConfig.PRINCIPALS_CACHE);
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.PRINCIPALS_CACHE)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private <T> ResponseEntity<T> exchange(String url, HttpMethod method, Object body, Class<T> type) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return restTemplate.exchange(url, method, new HttpEntity<>(body, headers), type);
+    }
+}
@@ -5,8 +5,11 @@ import diegobustos.my_task_planner_backend.controller.AuthController;
 import diegobustos.my_task_planner_backend.dto.AuthRequest;
 import diegobustos.my_task_planner_backend.dto.AuthResponse;
 import diegobustos.my_task_planner_backend.dto.RegisterRequest;
+import diegobustos.my_task_planner_backend.exception.PasswordHashingUnavailableException;
 import diegobustos.my_task_planner_backend.service.AuthService;
 import diegobustos.my_task_planner_backend.service.JwtService;
+import diegobustos.my_task_planner_backend.service.PrincipalCacheService;
+import diegobustos.my_task_planner_backend.service.VerifiedTokenCache;
 import diegobustos.my_task_planner_backend.service.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,10 +23,14 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -44,6 +51,10 @@ class AuthControllerTest {
     JwtService jwtService;
     @MockitoBean
     UserDetailsService userDetailsService;
+    @MockitoBean
+    PrincipalCacheService principalCacheService;
+    @MockitoBean
+    VerifiedTokenCache verifiedTokenCache;
 
     @Nested
     @DisplayName("POST /api/v1/auth/register")
@@ -171,6 +182,23 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.message").value("Invalid email or password"));
         }
 
+        @Test
+        @DisplayName("when password hashing saturated then 503 and Retry-After")
+        void whenHashingSaturated_then503() throws Exception {
+            AuthRequest req = AuthRequest.builder()
+                    .email("busy@b.com").password("anyPassword")
+                    .build();
+            doThrow(new PasswordHashingUnavailableException("Too many authentication requests, please retry later", Duration.ofSeconds(2)))
+                    .when(authService).login(any());
+
+            mockMvc.perform(post("/api/v1/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(req)))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(jsonPath("$.message").value("Too many authentication requests, please retry later"));
+        }
+
         @Test
         @DisplayName("when service error then 500")
         void whenServiceError_then500() throws Exception {
@@ -187,5 +215,71 @@ class AuthControllerTest {
                     .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
         }
     }
-}
 
+    @Nested
+    @DisplayName("POST /api/v1/auth/restore")
+    class Restore {
+
+        @Test
+        @DisplayName("when credentials valid then 200 and token")
+        void whenValidRestore_then200() throws Exception {
+            AuthRequest req = AuthRequest.builder()
+                    .email("a@b.com").password("Password1")
+                    .build();
+            when(userService.restoreUser(any()))
+                    .thenReturn(new AuthResponse("tok-restore"));
+
+            mockMvc.perform(post("/api/v1/auth/restore")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(req)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.token").value("tok-restore"));
+        }
+
+        @Test
+        @DisplayName("when account not deleted then 400 and message")
+        void whenLiveAccount_then400() throws Exception {
+            AuthRequest req = AuthRequest.builder()
+                    .email("a@b.com").password("Password1")
+                    .build();
+            doThrow(new IllegalArgumentException("Account is not deleted"))
+                    .when(userService).restoreUser(any());
+
+            mockMvc.perform(post("/api/v1/auth/restore")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(req)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Account is not deleted"));
+        }
+
+        @Test
+        @DisplayName("when bad credentials then 401")
+        void whenBadCredentials_then401() throws Exception {
+            AuthRequest req = AuthRequest.builder()
+                    .email("a@b.com").password("wrongPassword")
+                    .build();
+            doThrow(new org.springframework.security.authentication.BadCredentialsException("bad"))
+                    .when(userService).restoreUser(any());
+
+            mockMvc.perform(post("/api/v1/auth/restore")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(req)))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.message").value("Invalid email or password"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/auth/logout")
+    class Logout {
+
+        @Test
+        @DisplayName("when called then 204 and token revoked")
+        void whenLogout_then204() throws Exception {
+            mockMvc.perform(post("/api/v1/auth/logout"))
+                    .andExpect(status().isNoContent());
+
+            verify(authService).logout();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import diegobustos.my_task_planner_backend.config.JwtFilter;
 import diegobustos.my_task_planner_backend.controller.BoardController;
 import diegobustos.my_task_planner_backend.dto.BoardRequest;
 import diegobustos.my_task_planner_backend.dto.BoardResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
 import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
 import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
 import diegobustos.my_task_planner_backend.service.BoardService;
@@ -157,6 +158,38 @@ class BoardControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/board/me?cursor=")
+    class GetBoardsByCursor {
+
+        @Test
+        @DisplayName("should return 200 and a slice with next cursor")
+        void whenCursorMode_thenReturn200() throws Exception {
+            CursorPageResponse<BoardResponse> slice = new CursorPageResponse<>(
+                    Collections.singletonList(new BoardResponse(1L, "Board 1")), "next", true);
+
+            when(boardService.getBoardsByCursor("", 10)).thenReturn(slice);
+
+            mockMvc.perform(get("/api/v1/board/me").param("cursor", ""))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(1L))
+                    .andExpect(jsonPath("$.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("should return 400 when cursor is invalid")
+        void whenInvalidCursor_thenReturn400() throws Exception {
+            doThrow(new IllegalArgumentException("Invalid cursor"))
+                    .when(boardService).getBoardsByCursor("bad", 5);
+
+            mockMvc.perform(get("/api/v1/board/me").param("cursor", "bad").param("size", "5"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor"));
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/v1/board/{id}")
     class UpdateBoard {
@@ -252,4 +285,30 @@ class BoardControllerTest {
                     .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/board/{id}/restore")
+    class RestoreBoard {
+
+        @Test
+        @DisplayName("should return 200 with the restored board")
+        void whenBoardRestored_thenReturn200() throws Exception {
+            when(boardService.restoreBoard(1L)).thenReturn(new BoardResponse(1L, "Restored"));
+
+            mockMvc.perform(post("/api/v1/board/1/restore"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1L))
+                    .andExpect(jsonPath("$.title").value("Restored"));
+        }
+
+        @Test
+        @DisplayName("should return 404 when no deleted board is found")
+        void whenBoardNotFound_thenReturn404() throws Exception {
+            when(boardService.restoreBoard(1L)).thenThrow(new BoardNotFoundException("Board not found"));
+
+            mockMvc.perform(post("/api/v1/board/1/restore"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Board not found"));
+        }
+    }
 }
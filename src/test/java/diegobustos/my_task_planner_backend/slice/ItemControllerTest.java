@@ -3,6 +3,7 @@ package diegobustos.my_task_planner_backend.slice;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import diegobustos.my_task_planner_backend.config.JwtFilter;
 import diegobustos.my_task_planner_backend.controller.ItemController;
+import diegobustos.my_task_planner_backend.dto.BulkItemRequest;
 import diegobustos.my_task_planner_backend.dto.ItemRequest;
 import diegobustos.my_task_planner_backend.dto.TaskResponse;
 import diegobustos.my_task_planner_backend.exception.TaskNotFoundException;
@@ -20,8 +21,10 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
@@ -108,6 +111,63 @@ class ItemControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/item/{id}/bulk")
+    class CreateItems {
+
+        @Test
+        @DisplayName("200 when request is valid")
+        void whenValidRequest_thenReturn200() throws Exception {
+            BulkItemRequest req = new BulkItemRequest(List.of(new ItemRequest("One"), new ItemRequest("Two")));
+            TaskResponse resp = new TaskResponse(1L, "Task Title", false, Collections.emptyList());
+
+            when(itemService.createItems(eq(5L), anyList())).thenReturn(resp);
+
+            mockMvc.perform(post("/api/v1/item/5/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(req)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id").value(1L))
+                    .andExpect(jsonPath("$.title").value("Task Title"));
+        }
+
+        @Test
+        @DisplayName("400 when list is empty")
+        void whenEmpty_thenReturn400() throws Exception {
+            mockMvc.perform(post("/api/v1/item/1/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(new BulkItemRequest(List.of()))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.items").value("At least one item is required"));
+        }
+
+        @Test
+        @DisplayName("400 when a title is blank")
+        void whenTitleBlank_thenReturn400() throws Exception {
+            BulkItemRequest req = new BulkItemRequest(List.of(new ItemRequest("One"), new ItemRequest("")));
+
+            mockMvc.perform(post("/api/v1/item/1/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(req)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$['items[1].title']").value("Title is required"));
+        }
+
+        @Test
+        @DisplayName("404 when task not found")
+        void whenTaskNotFound_thenReturn404() throws Exception {
+            BulkItemRequest req = new BulkItemRequest(List.of(new ItemRequest("One")));
+            doThrow(new TaskNotFoundException("Task not found"))
+                    .when(itemService).createItems(eq(2L), anyList());
+
+            mockMvc.perform(post("/api/v1/item/2/bulk")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(req)))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Task not found"));
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/v1/item/{id}")
     class UpdateItem {
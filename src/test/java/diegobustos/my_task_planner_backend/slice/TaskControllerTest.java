@@ -3,6 +3,9 @@ package diegobustos.my_task_planner_backend.slice;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import diegobustos.my_task_planner_backend.config.JwtFilter;
 import diegobustos.my_task_planner_backend.controller.TaskController;
+import diegobustos.my_task_planner_backend.dto.BulkTaskResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
+import diegobustos.my_task_planner_backend.dto.MoveTasksRequest;
 import diegobustos.my_task_planner_backend.dto.TaskRequest;
 import diegobustos.my_task_planner_backend.dto.TaskResponse;
 import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
@@ -150,6 +153,50 @@ class TaskControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/task/{id}?cursor=")
+    class GetTasksByCursor {
+
+        @Test
+        @DisplayName("200 with slice and completed filter passed through")
+        void whenCursorMode_thenReturn200() throws Exception {
+            TaskResponse resp = new TaskResponse(1L, "T1", true, Collections.emptyList());
+            when(taskService.getTasksByCursor(7L, "", 5, true))
+                    .thenReturn(new CursorPageResponse<>(List.of(resp), "next", true));
+
+            mockMvc.perform(get("/api/v1/task/7")
+                            .param("cursor", "")
+                            .param("size", "5")
+                            .param("completed", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[0].id").value(1L))
+                    .andExpect(jsonPath("$.nextCursor").value("next"))
+                    .andExpect(jsonPath("$.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("400 when cursor is invalid")
+        void whenInvalidCursor_thenReturn400() throws Exception {
+            doThrow(new IllegalArgumentException("Invalid cursor"))
+                    .when(taskService).getTasksByCursor(7L, "bad", 20, null);
+
+            mockMvc.perform(get("/api/v1/task/7").param("cursor", "bad"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid cursor"));
+        }
+
+        @Test
+        @DisplayName("404 when board not found")
+        void whenBoardNotFound_thenReturn404() throws Exception {
+            doThrow(new BoardNotFoundException("Board not found"))
+                    .when(taskService).getTasksByCursor(8L, "", 20, null);
+
+            mockMvc.perform(get("/api/v1/task/8").param("cursor", ""))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Board not found"));
+        }
+    }
+
     @Nested
     @DisplayName("PATCH /api/v1/task/{id}")
     class UpdateTask {
@@ -280,4 +327,94 @@ class TaskControllerTest {
                     .andExpect(jsonPath("$.message").value("An unexpected error occurred"));
         }
     }
+
+    @Nested
+    @DisplayName("PATCH /api/v1/task/{id}/complete-all")
+    class CompleteAllTasks {
+
+        @Test
+        @DisplayName("200 with the number of completed tasks")
+        void whenCompleted_thenReturn200() throws Exception {
+            when(taskService.completeAllTasks(40L)).thenReturn(new BulkTaskResponse(12));
+
+            mockMvc.perform(patch("/api/v1/task/40/complete-all"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(12));
+        }
+
+        @Test
+        @DisplayName("404 when board not found")
+        void whenBoardNotFound_thenReturn404() throws Exception {
+            when(taskService.completeAllTasks(41L)).thenThrow(new BoardNotFoundException("Board not found"));
+
+            mockMvc.perform(patch("/api/v1/task/41/complete-all"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Board not found"));
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/v1/task/{id}/completed")
+    class DeleteCompletedTasks {
+
+        @Test
+        @DisplayName("200 with the number of deleted tasks")
+        void whenDeleted_thenReturn200() throws Exception {
+            when(taskService.deleteCompletedTasks(50L)).thenReturn(new BulkTaskResponse(4));
+
+            mockMvc.perform(delete("/api/v1/task/50/completed"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(4));
+        }
+
+        @Test
+        @DisplayName("404 when board not found")
+        void whenBoardNotFound_thenReturn404() throws Exception {
+            when(taskService.deleteCompletedTasks(51L)).thenThrow(new BoardNotFoundException("Board not found"));
+
+            mockMvc.perform(delete("/api/v1/task/51/completed"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Board not found"));
+        }
+    }
+
+    @Nested
+    @DisplayName("PATCH /api/v1/task/move")
+    class MoveTasks {
+
+        @Test
+        @DisplayName("200 with the number of moved tasks")
+        void whenValidRequest_thenReturn200() throws Exception {
+            when(taskService.moveTasks(any())).thenReturn(new BulkTaskResponse(2));
+
+            mockMvc.perform(patch("/api/v1/task/move")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(new MoveTasksRequest(List.of(1L, 2L), 60L))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.affected").value(2));
+        }
+
+        @Test
+        @DisplayName("400 when no tasks or no target board are given")
+        void whenInvalidRequest_thenReturn400() throws Exception {
+            mockMvc.perform(patch("/api/v1/task/move")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(new MoveTasksRequest(List.of(), null))))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.taskIds").value("At least one task is required"))
+                    .andExpect(jsonPath("$.targetBoardId").value("Target board is required"));
+        }
+
+        @Test
+        @DisplayName("404 when target board not found")
+        void whenTargetBoardNotFound_thenReturn404() throws Exception {
+            when(taskService.moveTasks(any())).thenThrow(new BoardNotFoundException("Board not found"));
+
+            mockMvc.perform(patch("/api/v1/task/move")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(mapper.writeValueAsString(new MoveTasksRequest(List.of(1L), 61L))))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("Board not found"));
+        }
+    }
 }
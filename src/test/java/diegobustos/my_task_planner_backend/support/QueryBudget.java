@@ -0,0 +1,36 @@
+package diegobustos.my_task_planner_backend.support;
+
+import diegobustos.my_task_planner_backend.config.SqlStatementCounter;
+import diegobustos.my_task_planner_backend.config.SqlStatementMetricsFilter;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    // For suites calling a running server: the test profile reports each request's SQL count in a header.
+    public static <T> ResponseEntity<T> assertStatements(int expected, ResponseEntity<T> response) {
+        String header = response.getHeaders().getFirst(SqlStatementMetricsFilter.STATEMENTS_HEADER);
+        assertNotNull(header, "response carries no " + SqlStatementMetricsFilter.STATEMENTS_HEADER + " header");
+        assertEquals(expected, Integer.parseInt(header), "SQL statements for this request");
+        return response;
+    }
+
+    // For MockMvc and direct service calls, which run on the calling thread.
+    public static <T> T assertStatements(int expected, ThrowingSupplier<T> action) throws Throwable {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        counter.start();
+        try {
+            T result = action.get();
+            assertEquals(expected, counter.current().getStatements(), "SQL statements for this call");
+            return result;
+        } finally {
+            counter.stop();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package diegobustos.my_task_planner_backend.support;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.function.Executable;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public final class QueryPlans {
+
+    private QueryPlans() {
+    }
+
+    // PostgreSQL only. Records every statement the action runs, with its bind values, then EXPLAINs each one with
+    // sequential scans disabled: the planner still picks a Seq Scan when no index can serve the query, so any
+    // Seq Scan in the plan means a hot query lost its index. Returns the plans for further assertions.
+    public static List<String> assertNoSequentialScans(DataSource dataSource, Executable action) throws Throwable {
+        List<Captured> captured = capture(dataSource, action);
+        List<String> plans = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL enable_seqscan = off");
+            }
+            for (Captured query : captured) {
+                String plan = explain(connection, query);
+                assertFalse(plan.contains("Seq Scan"), () -> "Sequential scan for " + query.sql() + "\n" + plan);
+                plans.add(plan);
+            }
+            connection.rollback();
+        }
+        return plans;
+    }
+
+    private static List<Captured> capture(DataSource dataSource, Executable action) throws Throwable {
+        ProxyDataSource proxy = assertInstanceOf(ProxyDataSource.class, dataSource, "query capture needs the proxied DataSource");
+        List<Captured> captured = new ArrayList<>();
+        QueryExecutionListener listener = new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                for (QueryInfo query : queryInfoList) {
+                    if (query.getParametersList().isEmpty()) {
+                        captured.add(new Captured(query.getQuery(), List.of()));
+                    }
+                    query.getParametersList().forEach(parameters -> captured.add(new Captured(query.getQuery(), List.copyOf(parameters))));
+                }
+            }
+        };
+
+        proxy.getProxyConfig().getQueryListener().addListener(listener);
+        try {
+            action.execute();
+        } finally {
+            proxy.getProxyConfig().getQueryListener().getListeners().remove(listener);
+        }
+        return captured;
+    }
+
+    private static String explain(Connection connection, Captured query) throws Exception {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            for (ParameterSetOperation parameter : query.parameters()) {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            }
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    plan.add(rows.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private record Captured(String sql, List<ParameterSetOperation> parameters) {
+    }
+}
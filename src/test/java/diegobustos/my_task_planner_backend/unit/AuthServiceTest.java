@@ -1,23 +1,29 @@
 package diegobustos.my_task_planner_backend.unit;
 
+import diegobustos.my_task_planner_backend.config.AuthenticatedUser;
+import diegobustos.my_task_planner_backend.config.JwtAuthentication;
 import diegobustos.my_task_planner_backend.dto.AuthRequest;
 import diegobustos.my_task_planner_backend.dto.AuthResponse;
 import diegobustos.my_task_planner_backend.service.AuthService;
 import diegobustos.my_task_planner_backend.service.JwtService;
+import diegobustos.my_task_planner_backend.service.UserDetailsServiceImpl;
+import diegobustos.my_task_planner_backend.service.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -26,27 +32,33 @@ class AuthServiceTest {
     @InjectMocks
     AuthService authService;
     @Mock AuthenticationManager authenticationManager;
-    @Mock UserDetailsService userDetailsService;
+    @Mock UserDetailsServiceImpl userDetailsService;
     @Mock
     JwtService jwtService;
+    @Mock VerifiedTokenCache verifiedTokenCache;
+    @Spy
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     private AuthRequest req;
-    private UserDetails userDetails;
+    private AuthenticatedUser userDetails;
 
     @BeforeEach
     void init() {
         MockitoAnnotations.openMocks(this);
         req = new AuthRequest("a@b.com", "pass");
-        userDetails = User.withUsername("a@b.com")
-                .password("encoded")
-                .build();
+        userDetails = new AuthenticatedUser(7L, "a@b.com", "encoded");
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
     void login_success() {
         when(userDetailsService.loadUserByUsername("a@b.com"))
                 .thenReturn(userDetails);
-        when(jwtService.generateToken("a@b.com"))
+        when(jwtService.generateToken("a@b.com", 7L))
                 .thenReturn("tok");
 
         AuthResponse res = authService.login(req);
@@ -56,6 +68,19 @@ class AuthServiceTest {
         );
     }
 
+    @Test
+    void login_recordsCostOfVerifiedHash() {
+        when(userDetailsService.loadUserByUsername("a@b.com"))
+                .thenReturn(new AuthenticatedUser(7L, "a@b.com", "{bcrypt}$2a$12$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234"));
+        when(jwtService.generateToken("a@b.com", 7L))
+                .thenReturn("tok");
+
+        authService.login(req);
+
+        assertEquals(1, meterRegistry.get(AuthService.LOGIN_COST_METRIC).summary().count());
+        assertEquals(12.0, meterRegistry.get(AuthService.LOGIN_COST_METRIC).summary().max());
+    }
+
     @Test
     void login_userNotFound() {
         when(userDetailsService.loadUserByUsername(any()))
@@ -79,6 +104,25 @@ class AuthServiceTest {
                 () -> authService.login(req)
         );
         assertEquals("bad", ex.getMessage());
+        assertNull(meterRegistry.find(AuthService.LOGIN_COST_METRIC).summary());
     }
-}
 
+    @Test
+    void logout_revokesPresentedToken() {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(userDetails, "jti-1"));
+
+        authService.logout();
+
+        verify(verifiedTokenCache).revoke("jti-1");
+    }
+
+    @Test
+    void logout_withoutToken_isNoOp() {
+        authService.logout();
+
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthentication(userDetails));
+        authService.logout();
+
+        verifyNoInteractions(verifiedTokenCache);
+    }
+}
@@ -0,0 +1,38 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.config.BcryptCost;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BcryptCostTest {
+
+    @Test
+    void parse_readsCostFromPrefixedAndLegacyHashes() {
+        String legacy = new BCryptPasswordEncoder(5).encode("secret");
+
+        assertEquals(OptionalInt.of(5), BcryptCost.parse(legacy));
+        assertEquals(OptionalInt.of(5), BcryptCost.parse("{bcrypt}" + legacy));
+    }
+
+    @Test
+    void parse_unknownFormat_isEmpty() {
+        assertTrue(BcryptCost.parse("encoded").isEmpty());
+        assertTrue(BcryptCost.parse("{noop}secret").isEmpty());
+        assertTrue(BcryptCost.parse(null).isEmpty());
+    }
+
+    @Test
+    void calibrate_generousTarget_reachesMaxCost() {
+        assertEquals(6, BcryptCost.calibrate(Duration.ofSeconds(30), 4, 6));
+    }
+
+    @Test
+    void calibrate_unreachableTarget_fallsBackToMinCost() {
+        assertEquals(5, BcryptCost.calibrate(Duration.ZERO, 5, 8));
+    }
+}
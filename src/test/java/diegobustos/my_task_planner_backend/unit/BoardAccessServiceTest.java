@@ -0,0 +1,120 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.config.AuthenticatedUser;
+import diegobustos.my_task_planner_backend.config.JwtAuthentication;
+import diegobustos.my_task_planner_backend.entity.Board;
+import diegobustos.my_task_planner_backend.entity.Item;
+import diegobustos.my_task_planner_backend.entity.Task;
+import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
+import diegobustos.my_task_planner_backend.exception.TaskNotFoundException;
+import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.service.BoardAccessService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoardAccessServiceTest {
+
+    @InjectMocks
+    private BoardAccessService boardAccessService;
+
+    @Mock private BoardRepository boardRepository;
+    @Mock private TaskRepository taskRepository;
+    @Mock private ItemRepository itemRepository;
+
+    private final Long userId = 5L;
+    private final Board board = Board.builder().id(1L).build();
+    private final Task task = Task.builder().id(2L).board(board).build();
+    private final Item item = Item.builder().id(3L).task(task).build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        SecurityContextHolder.clearContext();
+        SecurityContextHolder.getContext().setAuthentication(
+                new JwtAuthentication(new AuthenticatedUser(userId, "test@example.com", "")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getAccessibleBoard_success() {
+        when(boardRepository.findByUserIdAndBoardIdAndDeletedAtIsNull(userId, board.getId()))
+                .thenReturn(Optional.of(board));
+
+        assertSame(board, boardAccessService.getAccessibleBoard(board.getId()));
+    }
+
+    @Test
+    void getAccessibleBoard_notFound() {
+        when(boardRepository.findByUserIdAndBoardIdAndDeletedAtIsNull(userId, board.getId()))
+                .thenReturn(Optional.empty());
+
+        BoardNotFoundException ex = assertThrows(BoardNotFoundException.class,
+                () -> boardAccessService.getAccessibleBoard(board.getId()));
+        assertEquals("Board not found", ex.getMessage());
+    }
+
+    @Test
+    void getAccessibleTask_success() {
+        when(taskRepository.findAccessibleByIdAndUserId(task.getId(), userId)).thenReturn(Optional.of(task));
+
+        assertSame(task, boardAccessService.getAccessibleTask(task.getId()));
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    void getAccessibleTask_notFound() {
+        when(taskRepository.findAccessibleByIdAndUserId(task.getId(), userId)).thenReturn(Optional.empty());
+
+        TaskNotFoundException ex = assertThrows(TaskNotFoundException.class,
+                () -> boardAccessService.getAccessibleTask(task.getId()));
+        assertEquals("Task not found", ex.getMessage());
+    }
+
+    @Test
+    void getAccessibleItem_success() {
+        when(itemRepository.findAccessibleByIdAndUserId(item.getId(), userId)).thenReturn(Optional.of(item));
+
+        assertSame(item, boardAccessService.getAccessibleItem(item.getId()));
+        verifyNoInteractions(boardRepository, taskRepository);
+    }
+
+    @Test
+    void getAccessibleItem_notFound() {
+        when(itemRepository.findAccessibleByIdAndUserId(item.getId(), userId)).thenReturn(Optional.empty());
+
+        TaskNotFoundException ex = assertThrows(TaskNotFoundException.class,
+                () -> boardAccessService.getAccessibleItem(item.getId()));
+        assertEquals("Item not found", ex.getMessage());
+    }
+
+    @Test
+    void currentUserId_fromJwtAuthentication() {
+        assertEquals(userId, boardAccessService.currentUserId());
+    }
+
+    @Test
+    void currentUserId_otherAuthentication() {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("test@example.com", null));
+
+        assertThrows(UserNotFoundException.class, () -> boardAccessService.currentUserId());
+        verifyNoInteractions(boardRepository, taskRepository, itemRepository);
+    }
+}
@@ -2,6 +2,8 @@ package diegobustos.my_task_planner_backend.unit;
 
 import diegobustos.my_task_planner_backend.dto.BoardRequest;
 import diegobustos.my_task_planner_backend.dto.BoardResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
+import diegobustos.my_task_planner_backend.dto.PageCursor;
 import diegobustos.my_task_planner_backend.entity.Board;
 import diegobustos.my_task_planner_backend.entity.User;
 import diegobustos.my_task_planner_backend.entity.UserBoard;
@@ -9,13 +11,16 @@ import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
 import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
 import diegobustos.my_task_planner_backend.repository.BoardRepository;
 import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.service.BoardAccessService;
 import diegobustos.my_task_planner_backend.service.BoardService;
+import diegobustos.my_task_planner_backend.service.SoftDeleteService;
 import diegobustos.my_task_planner_backend.service.UserBoardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -23,12 +28,14 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,25 +56,31 @@ class BoardServiceTest {
     @Mock
     private UserBoardService userBoardService;
 
+    @Mock
+    private BoardAccessService boardAccessService;
+
+    @Mock
+    private SoftDeleteService softDeleteService;
+
     @Mock
     private Authentication authentication;
 
+    private final Long userId = 1L;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         when(securityContext.getAuthentication()).thenReturn(authentication);
         SecurityContextHolder.setContext(securityContext);
+        when(boardAccessService.currentUserId()).thenReturn(userId);
     }
 
     @Test
     void createBoard_success() {
-        String email = "test@example.com";
-        when(authentication.getName()).thenReturn(email);
-
-        User user = User.builder().email(email).build();
+        User user = User.builder().id(userId).email("test@example.com").build();
         BoardRequest request = new BoardRequest("New Board");
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(boardRepository.save(any(Board.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         BoardResponse response = boardService.createBoard(request);
@@ -79,12 +92,9 @@ class BoardServiceTest {
 
     @Test
     void createBoard_userNotFound() {
-        String email = "test@example.com";
-        when(authentication.getName()).thenReturn(email);
-
         BoardRequest request = new BoardRequest("New Board");
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         UserNotFoundException ex = assertThrows(UserNotFoundException.class,
                 () -> boardService.createBoard(request));
@@ -93,18 +103,13 @@ class BoardServiceTest {
 
     @Test
     void getAllBoards_success() {
-        String email = "test@example.com";
         int page = 0;
         int size = 10;
 
-        when(authentication.getName()).thenReturn(email);
-
-        User user = User.builder().email(email).build();
         Board board = Board.builder().id(1L).title("Test Board").build();
         Page<Board> boardPage = new PageImpl<>(List.of(board));
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(boardRepository.findByUserEmail(eq(email), any(Pageable.class))).thenReturn(boardPage);
+        when(boardRepository.findByUserId(eq(userId), any(Pageable.class))).thenReturn(boardPage);
 
         Page<BoardResponse> responsePage = boardService.getAllBoards(page, size);
 
@@ -114,17 +119,12 @@ class BoardServiceTest {
 
     @Test
     void getAllBoards_emptyResult() {
-        String email = "test@example.com";
         int page = 0;
         int size = 10;
 
-        when(authentication.getName()).thenReturn(email);
-
-        User user = User.builder().email(email).build();
         Page<Board> boardPage = new PageImpl<>(List.of());
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(boardRepository.findByUserEmail(eq(email), any(Pageable.class))).thenReturn(boardPage);
+        when(boardRepository.findByUserId(eq(userId), any(Pageable.class))).thenReturn(boardPage);
 
         Page<BoardResponse> responsePage = boardService.getAllBoards(page, size);
 
@@ -134,58 +134,85 @@ class BoardServiceTest {
 
     @Test
     void getAllBoards_userNotFound() {
-        String email = "test@example.com";
         int page = 0;
         int size = 10;
 
-        when(authentication.getName()).thenReturn(email);
-
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(boardAccessService.currentUserId()).thenThrow(new UserNotFoundException("User not found"));
 
         assertThrows(UserNotFoundException.class, () -> boardService.getAllBoards(page, size));
+        verify(boardRepository, never()).findByUserId(any(), any());
     }
 
+    @Test
+    void getBoardsByCursor_firstSlice() {
+        Board newest = board(3L, "2025-05-03T10:00:00Z");
+        Board middle = board(2L, "2025-05-02T10:00:00Z");
+        Board oldest = board(1L, "2025-05-01T10:00:00Z");
+        when(boardRepository.findFirstSliceByUserId(userId, Limit.of(3))).thenReturn(List.of(newest, middle, oldest));
+
+        CursorPageResponse<BoardResponse> response = boardService.getBoardsByCursor(null, 2);
+
+        assertEquals(List.of(3L, 2L), response.getContent().stream().map(BoardResponse::getId).toList());
+        assertTrue(response.isHasNext());
+        PageCursor next = PageCursor.decode(response.getNextCursor());
+        assertEquals(middle.getCreatedAt(), next.getCreatedAt());
+        assertEquals(middle.getId(), next.getId());
+        verify(boardRepository, never()).findByUserId(any(), any());
+    }
 
     @Test
-    void updateBoard_success() {
-        String email = "test@example.com";
-        when(authentication.getName()).thenReturn(email);
+    void getBoardsByCursor_lastSlice() {
+        Board oldest = board(1L, "2025-05-01T10:00:00Z");
+        PageCursor cursor = new PageCursor(Instant.parse("2025-05-02T10:00:00Z"), 2L);
+        when(boardRepository.findSliceByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getId(), Limit.of(3)))
+                .thenReturn(List.of(oldest));
 
-        User user = User.builder().email(email).build();
-        Board board = Board.builder().id(1L).title("Old Title").build();
-        UserBoard userBoard = UserBoard.builder().user(user).board(board).build();
-        user.getBoards().add(userBoard);
-        board.getUsers().add(userBoard);
+        CursorPageResponse<BoardResponse> response = boardService.getBoardsByCursor(cursor.encode(), 2);
 
-        BoardRequest request = new BoardRequest("New Title");
+        assertEquals(1, response.getContent().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(boardRepository.save(board)).thenReturn(board);
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, 1L)).thenReturn(Optional.of(board));
+    @Test
+    void getBoardsByCursor_invalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> boardService.getBoardsByCursor("not-a-cursor", 10));
+    }
 
-        BoardResponse response = boardService.updateBoard(1L, request);
+    @Test
+    void getBoardsByCursor_userNotFound() {
+        when(boardAccessService.currentUserId()).thenThrow(new UserNotFoundException("User not found"));
 
-        assertEquals("New Title", response.getTitle());
-        verify(boardRepository).save(board);
+        assertThrows(UserNotFoundException.class, () -> boardService.getBoardsByCursor(null, 10));
+    }
+
+    private Board board(Long id, String createdAt) {
+        Board board = Board.builder().id(id).title("Board " + id).build();
+        board.setCreatedAt(Instant.parse(createdAt));
+        return board;
     }
 
+
     @Test
-    void updateBoard_userNotFound() {
+    void updateBoard_success() {
         String email = "test@example.com";
         when(authentication.getName()).thenReturn(email);
 
         User user = User.builder().email(email).build();
-        Board board = Board.builder().id(2L).title("Old Title").build();
+        Board board = Board.builder().id(1L).title("Old Title").build();
         UserBoard userBoard = UserBoard.builder().user(user).board(board).build();
         user.getBoards().add(userBoard);
+        board.getUsers().add(userBoard);
 
         BoardRequest request = new BoardRequest("New Title");
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+        when(boardRepository.save(board)).thenReturn(board);
+        when(boardAccessService.getAccessibleBoard(1L)).thenReturn(board);
 
-        UserNotFoundException ex = assertThrows(UserNotFoundException.class,
-                () -> boardService.updateBoard(1L, request));
-        assertEquals("User not found", ex.getMessage());
+        BoardResponse response = boardService.updateBoard(1L, request);
+
+        assertEquals("New Title", response.getTitle());
+        verify(boardRepository).save(board);
     }
 
     @Test
@@ -208,8 +235,7 @@ class BoardServiceTest {
 
         board.setUsers(List.of(userBoard));
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, 1L)).thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleBoard(1L)).thenThrow(new BoardNotFoundException("Board not found"));
 
         BoardRequest request = new BoardRequest("New Title");
 
@@ -229,31 +255,14 @@ class BoardServiceTest {
         user.getBoards().add(userBoard);
         board.getUsers().add(userBoard);
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, 1L)).thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleBoard(1L)).thenReturn(board);
         when(boardRepository.save(board)).thenReturn(board);
 
         boardService.deleteBoard(1L);
 
         assertNotNull(board.getDeletedAt());
         verify(boardRepository).save(board);
-    }
-
-    @Test
-    void deleteBoard_userNotFound() {
-        String email = "test@example.com";
-        when(authentication.getName()).thenReturn(email);
-
-        User user = User.builder().email(email).build();
-        Board board = Board.builder().id(2L).title("My Board").build();
-        UserBoard userBoard = UserBoard.builder().user(user).board(board).build();
-        user.getBoards().add(userBoard);
-
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        UserNotFoundException ex = assertThrows(UserNotFoundException.class,
-                () -> boardService.deleteBoard(1L));
-        assertEquals("User not found", ex.getMessage());
+        verify(softDeleteService).cascadeBoardDeletion(List.of(1L), board.getDeletedAt());
     }
 
     @Test
@@ -267,11 +276,33 @@ class BoardServiceTest {
         UserBoard userBoard = UserBoard.builder().user(otherUser).board(board).build();
         board.getUsers().add(userBoard);
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, 1L)).thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleBoard(1L)).thenThrow(new BoardNotFoundException("Board not found"));
 
         BoardNotFoundException ex = assertThrows(BoardNotFoundException.class,
                 () -> boardService.deleteBoard(1L));
         assertEquals("Board not found", ex.getMessage());
     }
+
+    @Test
+    void restoreBoard_restoresWhatWasDeletedWithTheBoard() {
+        Instant deletedAt = Instant.parse("2025-05-01T10:00:00Z");
+        Board board = Board.builder().id(1L).title("My Board").build();
+        board.setDeletedAt(deletedAt);
+
+        when(boardRepository.findDeletedByUserIdAndBoardId(userId, 1L)).thenReturn(Optional.of(board));
+
+        BoardResponse response = boardService.restoreBoard(1L);
+
+        assertEquals("My Board", response.getTitle());
+        assertNull(board.getDeletedAt());
+        verify(softDeleteService).restoreBoards(List.of(1L), deletedAt);
+    }
+
+    @Test
+    void restoreBoard_boardNotDeletedOrNotAccessible() {
+        when(boardRepository.findDeletedByUserIdAndBoardId(userId, 1L)).thenReturn(Optional.empty());
+
+        assertThrows(BoardNotFoundException.class, () -> boardService.restoreBoard(1L));
+        verify(softDeleteService, never()).restoreBoards(any(), any());
+    }
 }
@@ -0,0 +1,91 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.config.BoundedPasswordEncoder;
+import diegobustos.my_task_planner_backend.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+    private PasswordEncoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder passwordEncoder;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(PasswordEncoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        passwordEncoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofMillis(1500), meterRegistry);
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        passwordEncoder.close();
+    }
+
+    @Test
+    void encodeAndMatches_runOnPoolAndRecordTimers() {
+        when(delegate.encode("secret")).thenReturn("hashed");
+        when(delegate.matches("secret", "hashed")).thenReturn(true);
+
+        assertEquals("hashed", passwordEncoder.encode("secret"));
+        assertTrue(passwordEncoder.matches("secret", "hashed"));
+
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.HASH_TIMER).tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.HASH_TIMER).tag("operation", "matches").timer().count());
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.WAIT_TIMER).tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void encode_whenPoolAndQueueAreFull_rejectsImmediately() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hashed";
+        });
+
+        Future<String> running = callers.submit(() -> passwordEncoder.encode("first"));
+        Future<String> queued = callers.submit(() -> passwordEncoder.encode("second"));
+        awaitQueued(1);
+
+        PasswordHashingUnavailableException ex = assertThrows(PasswordHashingUnavailableException.class,
+                () -> passwordEncoder.encode("third"));
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.get(BoundedPasswordEncoder.REJECTED_COUNTER).counter().count());
+
+        release.countDown();
+        assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get(BoundedPasswordEncoder.HASH_TIMER).tag("operation", "encode").timer().count());
+        assertTrue(meterRegistry.get(BoundedPasswordEncoder.WAIT_TIMER).tag("operation", "encode").timer()
+                .max(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void matches_delegateFailure_isRethrown() {
+        when(delegate.matches(any(), any())).thenThrow(new IllegalArgumentException("bad hash"));
+
+        assertThrows(IllegalArgumentException.class, () -> passwordEncoder.matches("secret", "broken"));
+    }
+
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", BoundedPasswordEncoder.EXECUTOR_NAME).gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "hashing task was never queued");
+            Thread.sleep(5);
+        }
+    }
+}
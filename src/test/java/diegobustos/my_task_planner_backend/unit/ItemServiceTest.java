@@ -5,31 +5,24 @@ import diegobustos.my_task_planner_backend.dto.TaskResponse;
 import diegobustos.my_task_planner_backend.entity.Board;
 import diegobustos.my_task_planner_backend.entity.Item;
 import diegobustos.my_task_planner_backend.entity.Task;
-import diegobustos.my_task_planner_backend.entity.User;
-import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
 import diegobustos.my_task_planner_backend.exception.TaskNotFoundException;
-import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
-import diegobustos.my_task_planner_backend.repository.BoardRepository;
 import diegobustos.my_task_planner_backend.repository.ItemRepository;
 import diegobustos.my_task_planner_backend.repository.TaskRepository;
-import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.service.BoardAccessService;
 import diegobustos.my_task_planner_backend.service.ItemService;
 import diegobustos.my_task_planner_backend.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.authentication.TestingAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,14 +33,11 @@ class ItemServiceTest {
     @InjectMocks
     private ItemService itemService;
 
-    @Mock private UserRepository userRepository;
-    @Mock private TaskRepository taskRepository;
-    @Mock private BoardRepository boardRepository;
     @Mock private ItemRepository itemRepository;
+    @Mock private TaskRepository taskRepository;
     @Mock private TaskService taskService;
+    @Mock private BoardAccessService boardAccessService;
 
-    private final String email = "test@example.com";
-    private final User user = User.builder().id(1L).email(email).build();
     private final Board board = Board.builder().id(1L).users(List.of()).build();
     private final Task task = Task.builder().id(1L).board(board).completed(false).build();
     private final TaskResponse mockResponse = TaskResponse.fromEntity(task, List.of());
@@ -55,7 +45,7 @@ class ItemServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(email, null));
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
     }
 
     @Test
@@ -69,9 +59,7 @@ class ItemServiceTest {
 
         List<Item> items = List.of(item);
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleTask(task.getId())).thenReturn(task);
         when(taskService.mapTaskToResponse(task)).thenAnswer(invocation -> {
             Task t = invocation.getArgument(0);
             return TaskResponse.fromEntity(t, items);
@@ -81,31 +69,50 @@ class ItemServiceTest {
 
         assertThat(result).isInstanceOf(TaskResponse.class);
         verify(itemRepository).save(any(Item.class));
+        verify(taskRepository).adjustItemCounters(eq(task.getId()), eq(1), eq(0), any(Instant.class));
     }
 
     @Test
-    void createItem_userNotFound() {
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-        when(taskRepository.findByIdAndDeletedAtIsNull(anyLong())).thenReturn(Optional.of(task));
+    void createItem_taskNotFound() {
+        when(boardAccessService.getAccessibleTask(task.getId()))
+                .thenThrow(new TaskNotFoundException("Task not found"));
 
-        assertThrows(UserNotFoundException.class, () -> itemService.createItem(task.getId(), new ItemRequest("")));
+        assertThrows(TaskNotFoundException.class, () -> itemService.createItem(task.getId(), new ItemRequest("")));
+        verify(itemRepository, never()).save(any());
+        verify(taskRepository, never()).adjustItemCounters(any(), anyInt(), anyInt(), any());
     }
 
     @Test
-    void createItem_taskNotFound() {
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.empty());
+    void createItems_checksAccessOnceAndAdjustsCountersOnce() {
+        List<ItemRequest> requests = List.of(new ItemRequest("One"), new ItemRequest("Two"), new ItemRequest("Three"));
 
-        assertThrows(TaskNotFoundException.class, () -> itemService.createItem(task.getId(), new ItemRequest("")));
+        when(boardAccessService.getAccessibleTask(task.getId())).thenReturn(task);
+        when(taskService.mapTaskToResponse(task)).thenReturn(mockResponse);
+
+        TaskResponse result = itemService.createItems(task.getId(), requests);
+
+        assertSame(mockResponse, result);
+        verify(boardAccessService, times(1)).getAccessibleTask(task.getId());
+        verify(itemRepository).saveAll(argThat(items -> {
+            List<Item> saved = (List<Item>) items;
+            return saved.size() == 3
+                    && saved.stream().allMatch(i -> i.getTask() == task)
+                    && saved.get(0).getTitle().equals("One") && saved.get(2).getTitle().equals("Three");
+        }));
+        verify(itemRepository, never()).save(any());
+        verify(taskRepository, times(1)).adjustItemCounters(eq(task.getId()), eq(3), eq(0), any(Instant.class));
+        verify(taskService, times(1)).mapTaskToResponse(task);
     }
 
     @Test
-    void createItem_boardNotFound() {
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.empty());
+    void createItems_taskNotFound() {
+        when(boardAccessService.getAccessibleTask(task.getId()))
+                .thenThrow(new TaskNotFoundException("Task not found"));
 
-        assertThrows(BoardNotFoundException.class, () -> itemService.createItem(task.getId(), new ItemRequest("")));
+        assertThrows(TaskNotFoundException.class,
+                () -> itemService.createItems(task.getId(), List.of(new ItemRequest("One"))));
+        verify(itemRepository, never()).saveAll(any());
+        verify(taskRepository, never()).adjustItemCounters(any(), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -113,10 +120,7 @@ class ItemServiceTest {
         Item item = Item.builder().id(1L).title("old").task(task).build();
         ItemRequest request = new ItemRequest("updated");
 
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleItem(item.getId())).thenReturn(item);
         when(taskService.mapTaskToResponse(task)).thenReturn(mockResponse);
 
         TaskResponse response = itemService.updateItem(item.getId(), request);
@@ -124,212 +128,100 @@ class ItemServiceTest {
         assertEquals(mockResponse, response);
         assertEquals("updated", item.getTitle());
         verify(itemRepository).save(item);
+        verify(taskRepository, never()).adjustItemCounters(any(), anyInt(), anyInt(), any());
     }
 
     @Test
     void updateItem_itemNotFound() {
-        when(itemRepository.findByIdAndDeletedAtIsNull(123L)).thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleItem(123L)).thenThrow(new TaskNotFoundException("Item not found"));
 
         assertThrows(TaskNotFoundException.class, () -> itemService.updateItem(123L, new ItemRequest("fail")));
-    }
-
-    @Test
-    void updateItem_userNotFound() {
-        Item item = Item.builder().id(1L).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        assertThrows(UserNotFoundException.class, () -> itemService.updateItem(item.getId(), new ItemRequest("")));
-    }
-
-    @Test
-    void updateItem_taskNotFound() {
-        Item item = Item.builder().id(1L).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.empty());
-
-        assertThrows(TaskNotFoundException.class, () -> itemService.updateItem(item.getId(), new ItemRequest("")));
-    }
-
-    @Test
-    void updateItem_boardNotFound() {
-        Item item = Item.builder().id(1L).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.empty());
-
-        assertThrows(BoardNotFoundException.class, () -> itemService.updateItem(item.getId(), new ItemRequest("")));
+        verify(itemRepository, never()).save(any());
     }
 
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
-    void toggleItemCompletion_success(boolean initialState) {
-        Task task = Task.builder().id(1L).board(board).completed(initialState).build();
-        TaskResponse mockResponse = TaskResponse.fromEntity(task, List.of());
-        Item item = Item.builder().id(1L).itemChecked(initialState).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.of(board));
+    void toggleItemCompletion_success(boolean newState) {
+        Item item = Item.builder().id(1L).itemChecked(!newState).task(task).build();
+
+        when(boardAccessService.getAccessibleItem(item.getId())).thenReturn(item);
+        when(itemRepository.toggleChecked(eq(item.getId()), any(Instant.class))).thenReturn(1);
+        when(itemRepository.findItemCheckedById(item.getId())).thenReturn(newState);
         when(taskService.mapTaskToResponse(task)).thenReturn(mockResponse);
 
         TaskResponse response = itemService.toggleItemCompletion(item.getId());
 
-        assertEquals(!initialState, item.isItemChecked());
         assertEquals(mockResponse, response);
-        verify(itemRepository).save(item);
+        verify(itemRepository, never()).save(any());
+        verify(taskRepository).adjustItemCounters(eq(task.getId()), eq(0), eq(newState ? 1 : -1), any(Instant.class));
+        verify(itemRepository, never()).findByTaskIdAndDeletedAtIsNull(any());
+        verify(taskService, never()).toggleTaskCompletion(any());
     }
 
     @Test
-    void toggleItemCompletion_itemNotFound() {
-        when(itemRepository.findByIdAndDeletedAtIsNull(99L)).thenReturn(Optional.empty());
-
-        assertThrows(TaskNotFoundException.class, () -> itemService.toggleItemCompletion(99L));
-    }
-
-    @Test
-    void toggleItemCompletion_userNotFound() {
+    void toggleItemCompletion_itemDeletedConcurrently() {
         Item item = Item.builder().id(1L).task(task).build();
 
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        assertThrows(UserNotFoundException.class, () -> itemService.toggleItemCompletion(item.getId()));
-    }
-
-    @Test
-    void toggleItemCompletion_taskNotFound() {
-        Item item = Item.builder().id(1L).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleItem(item.getId())).thenReturn(item);
+        when(itemRepository.toggleChecked(eq(item.getId()), any(Instant.class))).thenReturn(0);
 
         assertThrows(TaskNotFoundException.class, () -> itemService.toggleItemCompletion(item.getId()));
+        verify(taskRepository, never()).adjustItemCounters(any(), anyInt(), anyInt(), any());
     }
 
     @Test
-    void toggleItemCompletion_boardNotFound() {
-        Item item = Item.builder().id(1L).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.empty());
+    void toggleItemCompletion_itemNotFound() {
+        when(boardAccessService.getAccessibleItem(99L)).thenThrow(new TaskNotFoundException("Item not found"));
 
-        assertThrows(BoardNotFoundException.class, () -> itemService.toggleItemCompletion(item.getId()));
+        assertThrows(TaskNotFoundException.class, () -> itemService.toggleItemCompletion(99L));
     }
 
     @Test
     void deleteItem_success() {
         Item item = Item.builder().id(1L).task(task).build();
 
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId()))
-                .thenReturn(Optional.of(item))
-                .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleItem(item.getId())).thenReturn(item);
+        when(itemRepository.softDelete(eq(item.getId()), any(Instant.class))).thenReturn(1);
         when(taskService.mapTaskToResponse(task)).thenReturn(mockResponse);
 
         TaskResponse response = itemService.deleteItem(item.getId());
 
-        assertNotNull(item.getDeletedAt());
         assertEquals(mockResponse, response);
-        verify(itemRepository).save(item);
+        verify(itemRepository).softDelete(eq(item.getId()), any(Instant.class));
+        verify(itemRepository, never()).save(any());
     }
 
     @Test
-    void deleteItem_itemNotFound() {
-        when(itemRepository.findByIdAndDeletedAtIsNull(42L)).thenReturn(Optional.empty());
-
-        assertThrows(TaskNotFoundException.class, () -> itemService.deleteItem(42L));
-    }
-
-    @Test
-    void deleteItem_userNotFound() {
+    void deleteItem_itemDeletedConcurrently() {
         Item item = Item.builder().id(1L).task(task).build();
 
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-
-        assertThrows(UserNotFoundException.class, () -> itemService.deleteItem(item.getId()));
-    }
-
-    @Test
-    void deleteItem_taskNotFound() {
-        Item item = Item.builder().id(1L).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleItem(item.getId())).thenReturn(item);
+        when(itemRepository.softDelete(eq(item.getId()), any(Instant.class))).thenReturn(0);
 
         assertThrows(TaskNotFoundException.class, () -> itemService.deleteItem(item.getId()));
+        verify(taskRepository, never()).adjustItemCounters(any(), anyInt(), anyInt(), any());
     }
 
     @Test
-    void deleteItem_boardNotFound() {
-        Item item = Item.builder().id(1L).task(task).build();
-
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId())).thenReturn(Optional.of(item));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId())).thenReturn(Optional.empty());
+    void deleteItem_itemNotFound() {
+        when(boardAccessService.getAccessibleItem(42L)).thenThrow(new TaskNotFoundException("Item not found"));
 
-        assertThrows(BoardNotFoundException.class, () -> itemService.deleteItem(item.getId()));
+        assertThrows(TaskNotFoundException.class, () -> itemService.deleteItem(42L));
     }
 
     @ParameterizedTest
-    @MethodSource("provideItemsForTaskCompletion")
-    void deleteItem_taskCompletionUpdate(List<Item> items, boolean shouldToggleCompletion) {
-        Item item = Item.builder().id(1L).task(task).build();
+    @CsvSource({"true, -1", "false, 0"})
+    void deleteItem_updatesTaskCounters(boolean itemChecked, int checkedDelta) {
+        Item item = Item.builder().id(1L).itemChecked(itemChecked).task(task).build();
 
-        when(itemRepository.findByIdAndDeletedAtIsNull(item.getId()))
-                .thenReturn(Optional.of(item))
-                .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId())).thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(email, board.getId()))
-                .thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleItem(item.getId())).thenReturn(item);
+        when(itemRepository.softDelete(eq(item.getId()), any(Instant.class))).thenReturn(1);
+        when(itemRepository.findItemCheckedById(item.getId())).thenReturn(itemChecked);
         when(taskService.mapTaskToResponse(task)).thenReturn(mockResponse);
-        when(itemRepository.findByTaskIdAndDeletedAtIsNull(task.getId())).thenReturn(items);
 
-        TaskResponse response = itemService.deleteItem(item.getId());
-
-        assertNotNull(item.getDeletedAt());
-        assertEquals(mockResponse, response);
-        verify(itemRepository).save(item);
+        itemService.deleteItem(item.getId());
 
-        if (shouldToggleCompletion) {
-            verify(taskService).toggleTaskCompletion(task.getId());
-        } else {
-            verify(taskService, never()).toggleTaskCompletion(task.getId());
-        }
+        verify(taskRepository).adjustItemCounters(eq(task.getId()), eq(-1), eq(checkedDelta), any(Instant.class));
+        verify(itemRepository, never()).findByTaskIdAndDeletedAtIsNull(any());
     }
-
-    static Stream<Arguments> provideItemsForTaskCompletion() {
-        return Stream.of(
-                Arguments.of(List.of(), false),
-                Arguments.of(
-                        List.of(
-                                Item.builder().itemChecked(true).build(),
-                                Item.builder().itemChecked(true).build()
-                        ), true
-                ),
-                Arguments.of(
-                        List.of(
-                                Item.builder().itemChecked(true).build(),
-                                Item.builder().itemChecked(false).build()
-                        ), false
-                )
-        );
-    }
-
-
 }
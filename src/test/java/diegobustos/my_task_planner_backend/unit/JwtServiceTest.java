@@ -0,0 +1,69 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.service.JwtService;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "5367566859703373367639792F423F452848284D6251655468576D5A71347437";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = newJwtService(SECRET, 60_000);
+    }
+
+    @Test
+    void verifyAndExtract_validToken() {
+        String token = jwtService.generateToken("a@b.com", 1L);
+
+        Optional<Claims> claims = jwtService.verifyAndExtract(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals("a@b.com", claims.get().getSubject());
+        assertEquals(1L, claims.get().get(JwtService.USER_ID_CLAIM, Long.class));
+        assertNotNull(claims.get().getId());
+    }
+
+    @Test
+    void verifyAndExtract_tokenSignedWithAnotherKey() {
+        JwtService other = newJwtService("7A24432646294A404E635266556A586E3272357538782F413F4428472B4B6250", 60_000);
+        String token = other.generateToken("a@b.com", 1L);
+
+        assertTrue(jwtService.verifyAndExtract(token).isEmpty());
+    }
+
+    @Test
+    void verifyAndExtract_expiredToken() {
+        JwtService expired = newJwtService(SECRET, -1_000);
+        String token = expired.generateToken("a@b.com", 1L);
+
+        assertTrue(jwtService.verifyAndExtract(token).isEmpty());
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"not-a-jwt", "a.b.c"})
+    void verifyAndExtract_malformedToken(String token) {
+        assertTrue(jwtService.verifyAndExtract(token).isEmpty());
+    }
+
+    private JwtService newJwtService(String secret, long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secret", secret);
+        ReflectionTestUtils.setField(service, "expiration", expiration);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}
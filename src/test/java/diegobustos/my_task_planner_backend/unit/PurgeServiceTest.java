@@ -0,0 +1,132 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.repository.UserBoardRepository;
+import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.service.JobLockService;
+import diegobustos.my_task_planner_backend.service.PurgeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PurgeServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private UserBoardRepository userBoardRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(jobLockService.tryLock(eq(PurgeService.LOCK_NAME), any())).thenReturn(true);
+        when(boardRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        when(taskRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        when(itemRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        when(userBoardRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of());
+        when(userRepository.findIdsDeletedBeforeWithoutBoards(any(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void purgeSoftDeleted_lockHeldElsewhere_touchesNothing() {
+        when(jobLockService.tryLock(eq(PurgeService.LOCK_NAME), any())).thenReturn(false);
+
+        purgeService(Duration.ofMinutes(30)).purgeSoftDeleted();
+
+        verifyNoInteractions(boardRepository, taskRepository, itemRepository, userBoardRepository, userRepository);
+        verify(jobLockService, never()).unlock(any());
+    }
+
+    @Test
+    void purgeSoftDeleted_deletesChildrenBeforeParentsAndCountsRows() {
+        when(boardRepository.findIdsDeletedBefore(any(), eq(Limit.of(2)))).thenReturn(List.of(1L)).thenReturn(List.of());
+        when(taskRepository.findIdsByBoardIds(List.of(1L), Limit.of(2))).thenReturn(List.of(10L, 11L)).thenReturn(List.of());
+        when(itemRepository.purgeByTaskIds(List.of(10L, 11L))).thenReturn(3);
+        when(taskRepository.purgeByIds(List.of(10L, 11L))).thenReturn(2);
+        when(boardRepository.purgeByIds(List.of(1L))).thenReturn(1);
+        when(userRepository.findIdsDeletedBeforeWithoutBoards(any(), any())).thenReturn(List.of(7L)).thenReturn(List.of());
+        when(userRepository.purgeByIds(List.of(7L))).thenReturn(1);
+
+        purgeService(Duration.ofMinutes(30)).purgeSoftDeleted();
+
+        InOrder inOrder = inOrder(itemRepository, taskRepository, userBoardRepository, boardRepository, userRepository, jobLockService);
+        inOrder.verify(itemRepository).purgeByTaskIds(List.of(10L, 11L));
+        inOrder.verify(taskRepository).purgeByIds(List.of(10L, 11L));
+        inOrder.verify(userBoardRepository).purgeByBoardIds(List.of(1L));
+        inOrder.verify(boardRepository).purgeByIds(List.of(1L));
+        inOrder.verify(userRepository).purgeByIds(List.of(7L));
+        inOrder.verify(jobLockService).unlock(PurgeService.LOCK_NAME);
+        assertEquals(3, rows("item"));
+        assertEquals(2, rows("task"));
+        assertEquals(1, rows("board"));
+        assertEquals(1, rows("users"));
+        assertEquals(1, meterRegistry.get(PurgeService.DURATION_METRIC).tag("result", "completed").timer().count());
+    }
+
+    @Test
+    void purgeSoftDeleted_pastMaxDuration_stopsAfterOneChunk() {
+        when(itemRepository.findIdsDeletedBefore(any(), any())).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L)).thenReturn(List.of());
+
+        purgeService(Duration.ofNanos(-1)).purgeSoftDeleted();
+
+        verify(itemRepository, times(1)).purgeByIds(any());
+        verify(userBoardRepository, never()).findIdsDeletedBefore(any(), any());
+        verify(jobLockService).unlock(PurgeService.LOCK_NAME);
+        assertEquals(1, meterRegistry.get(PurgeService.DURATION_METRIC).tag("result", "partial").timer().count());
+    }
+
+    @Test
+    void purgeSoftDeleted_failure_stillReleasesTheLock() {
+        when(itemRepository.findIdsDeletedBefore(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> purgeService(Duration.ofMinutes(30)).purgeSoftDeleted());
+
+        verify(jobLockService).unlock(PurgeService.LOCK_NAME);
+    }
+
+    private PurgeService purgeService(Duration maxDuration) {
+        return new PurgeService(boardRepository, taskRepository, itemRepository, userBoardRepository, userRepository,
+                jobLockService, transactionManager, meterRegistry,
+                Duration.ofDays(30), 2, Duration.ZERO, maxDuration, Duration.ofHours(1));
+    }
+
+    private double rows(String table) {
+        return meterRegistry.get(PurgeService.ROWS_METRIC).tag("table", table).counter().count();
+    }
+}
@@ -0,0 +1,134 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import diegobustos.my_task_planner_backend.config.SlowQueryLogger;
+import diegobustos.my_task_planner_backend.controller.TaskController;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLoggerTest {
+
+    private ListAppender<ILoggingEvent> appender;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        logger = (Logger) LoggerFactory.getLogger(SlowQueryLogger.LOGGER);
+        appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void afterQuery_belowThresholdWithoutSampling_logsNothing() {
+        new SlowQueryLogger(Duration.ofMillis(100), 0, false).afterQuery(execution(99), List.of(query("select 1")));
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void afterQuery_slowQuery_logsBindParametersAndControllerMethod() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/task/7");
+        Method handler = TaskController.class.getMethod("getAllTasksById", Long.class);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, new HandlerMethod(new Object(), handler) {
+            @Override
+            public Class<?> getBeanType() {
+                return TaskController.class;
+            }
+        });
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        new SlowQueryLogger(Duration.ofMillis(100), 0, false).afterQuery(execution(250),
+                List.of(query("select * from task where board_id=? and title=?", 2, "Launch", 1, 7L)));
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        String message = event.getFormattedMessage();
+        assertTrue(message.contains("250 ms"));
+        assertTrue(message.contains("TaskController.getAllTasksById"));
+        assertTrue(message.contains("select * from task where board_id=? and title=? [1=Long, 2=String]"));
+        assertFalse(message.contains("Launch"));
+    }
+
+    @Test
+    void afterQuery_logValuesEnabled_logsBindValues() {
+        new SlowQueryLogger(Duration.ZERO, 0, true).afterQuery(execution(5),
+                List.of(query("select * from task where board_id=? and title=?", 2, "Launch", 1, 7L)));
+
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("[1=7, 2=Launch]"));
+    }
+
+    @Test
+    void afterQuery_logValuesEnabled_passwordHashParameterIsRedacted() {
+        new SlowQueryLogger(Duration.ZERO, 0, true).afterQuery(execution(5),
+                List.of(query("update users set password=? where id=?", 1, "{bcrypt}$2a$10$abcdefghijklmnopqrstuv", 2, 3L)));
+
+        String message = appender.list.get(0).getFormattedMessage();
+        assertTrue(message.contains("[1=<redacted>, 2=3]"));
+        assertFalse(message.contains("$2a$"));
+        assertTrue(message.contains("from thread "));
+    }
+
+    @Test
+    void afterQuery_sampledFastQuery_logsAtInfo() {
+        new SlowQueryLogger(Duration.ofSeconds(1), 1.0, false).afterQuery(execution(3), List.of(query("select 1")));
+
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.INFO, appender.list.get(0).getLevel());
+        assertTrue(appender.list.get(0).getFormattedMessage().startsWith("Sampled query: 3 ms"));
+    }
+
+    private ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        return info;
+    }
+
+    private QueryInfo query(String sql, Object... indexAndValues) {
+        QueryInfo query = new QueryInfo(sql);
+        if (indexAndValues.length > 0) {
+            List<ParameterSetOperation> operations = new ArrayList<>();
+            for (int i = 0; i < indexAndValues.length; i += 2) {
+                operations.add(new ParameterSetOperation(setObject(), new Object[]{indexAndValues[i], indexAndValues[i + 1]}));
+            }
+            query.getParametersList().add(operations);
+        }
+        return query;
+    }
+
+    private Method setObject() {
+        try {
+            return PreparedStatement.class.getMethod("setObject", int.class, Object.class);
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
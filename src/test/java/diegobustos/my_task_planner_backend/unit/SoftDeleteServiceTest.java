@@ -0,0 +1,110 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.repository.BoardRepository;
+import diegobustos.my_task_planner_backend.repository.ItemRepository;
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.repository.UserBoardRepository;
+import diegobustos.my_task_planner_backend.service.SoftDeleteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SoftDeleteServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private UserBoardRepository userBoardRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SoftDeleteService softDeleteService;
+
+    private final Instant deletedAt = Instant.parse("2025-05-01T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        softDeleteService = new SoftDeleteService(boardRepository, taskRepository, itemRepository,
+                userBoardRepository, transactionManager, 2);
+    }
+
+    @Test
+    void cascadeBoardDeletion_walksTasksInChunksEachInItsOwnTransaction() {
+        List<Long> boardIds = List.of(1L);
+        when(taskRepository.findLiveIdsByBoardIds(boardIds, Limit.of(2)))
+                .thenReturn(List.of(10L, 11L), List.of(12L), List.of());
+
+        softDeleteService.cascadeBoardDeletion(boardIds, deletedAt);
+
+        InOrder inOrder = inOrder(itemRepository, taskRepository, userBoardRepository);
+        inOrder.verify(itemRepository).softDeleteByTaskIds(List.of(10L, 11L), deletedAt);
+        inOrder.verify(taskRepository).softDeleteByIds(List.of(10L, 11L), deletedAt);
+        inOrder.verify(itemRepository).softDeleteByTaskIds(List.of(12L), deletedAt);
+        inOrder.verify(taskRepository).softDeleteByIds(List.of(12L), deletedAt);
+        inOrder.verify(userBoardRepository).softDeleteByBoardIds(boardIds, deletedAt);
+        verify(transactionManager, times(4)).commit(any());
+    }
+
+    @Test
+    void restoreBoards_onlyBringsBackRowsStampedWithTheBoardsDeletionAndTheBoardLast() {
+        List<Long> boardIds = List.of(1L);
+        when(taskRepository.findIdsByBoardIdsDeletedAt(boardIds, deletedAt, Limit.of(2)))
+                .thenReturn(List.of(10L), List.of());
+
+        softDeleteService.restoreBoards(boardIds, deletedAt);
+
+        InOrder inOrder = inOrder(itemRepository, taskRepository, userBoardRepository, boardRepository);
+        inOrder.verify(itemRepository).restoreByTaskIds(eq(List.of(10L)), eq(deletedAt), any(Instant.class));
+        inOrder.verify(taskRepository).restoreByIds(eq(List.of(10L)), eq(deletedAt), any(Instant.class));
+        inOrder.verify(userBoardRepository).restoreByBoardIds(eq(boardIds), eq(deletedAt), any(Instant.class));
+        inOrder.verify(boardRepository).restoreByIds(eq(boardIds), eq(deletedAt), any(Instant.class));
+        verify(taskRepository, never()).findLiveIdsByBoardIds(any(), any());
+    }
+
+    @Test
+    void deleteBoardsOfUser_deletesSoleMemberBoardsInChunksThenLeavesTheRest() {
+        when(userBoardRepository.findLiveBoardIdsOnlyMemberIs(7L)).thenReturn(List.of(1L, 2L, 3L));
+        when(taskRepository.findLiveIdsByBoardIds(any(), any())).thenReturn(List.of());
+
+        softDeleteService.deleteBoardsOfUser(7L, deletedAt);
+
+        verify(boardRepository).softDeleteByIds(List.of(1L, 2L), deletedAt);
+        verify(boardRepository).softDeleteByIds(List.of(3L), deletedAt);
+        verify(userBoardRepository).softDeleteByBoardIds(List.of(1L, 2L), deletedAt);
+        verify(userBoardRepository).softDeleteByBoardIds(List.of(3L), deletedAt);
+        verify(userBoardRepository).softDeleteByUserId(7L, deletedAt);
+    }
+
+    @Test
+    void restoreBoardsOfUser_restoresBoardsDeletedWithTheUserAndItsMemberships() {
+        when(userBoardRepository.findBoardIdsDeletedWithUser(7L, deletedAt)).thenReturn(List.of(1L));
+        when(taskRepository.findIdsByBoardIdsDeletedAt(any(), any(), any())).thenReturn(List.of());
+
+        softDeleteService.restoreBoardsOfUser(7L, deletedAt);
+
+        verify(boardRepository).restoreByIds(eq(List.of(1L)), eq(deletedAt), any(Instant.class));
+        verify(userBoardRepository).restoreByUserId(eq(7L), eq(deletedAt), any(Instant.class));
+    }
+}
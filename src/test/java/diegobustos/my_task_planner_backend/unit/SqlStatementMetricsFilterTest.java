@@ -0,0 +1,112 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.config.SqlStatementCounter;
+import diegobustos.my_task_planner_backend.config.SqlStatementMetricsFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static diegobustos.my_task_planner_backend.support.QueryBudget.assertStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementMetricsFilterTest {
+
+    private SqlStatementCounter counter;
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new SqlStatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new SqlStatementMetricsFilter(counter, meterRegistry, true, 5, 4);
+    }
+
+    @Test
+    void doFilter_writesHeadersBeforeBodyIsCommittedAndRecordsPerEndpoint() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/task/7", "/api/v1/task/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            counter.inspect("select t from task t");
+            counter.inspect("select i from item i");
+            res.getWriter().write("[]");
+            res.flushBuffer();
+            counter.inspect("select late from audit");
+        });
+
+        assertEquals("2", response.getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER));
+        assertNotNull(response.getHeader(SqlStatementMetricsFilter.JDBC_TIME_HEADER));
+        assertEquals(3.0, meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METRIC)
+                .tag("method", "GET").tag("uri", "/api/v1/task/{id}").summary().max());
+        assertEquals(1, meterRegistry.get(SqlStatementMetricsFilter.JDBC_TIME_METRIC)
+                .tag("uri", "/api/v1/task/{id}").timer().count());
+        assertNull(meterRegistry.find(SqlStatementMetricsFilter.N_PLUS_ONE_METRIC).counter());
+    }
+
+    @Test
+    void doFilter_emptyResponse_stillGetsHeaders() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/v1/task/7", "/api/v1/task/{id}"), response, (req, res) -> counter.inspect("delete from task"));
+
+        assertEquals("1", response.getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void doFilter_repeatedStatement_isFlaggedAsNPlusOne() throws Exception {
+        filter.doFilter(request("/api/v1/board/me", "/api/v1/board/me"), new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < 4; i++) {
+                counter.inspect("select i from item i where i.task_id=?");
+            }
+        });
+
+        assertEquals(1, meterRegistry.get(SqlStatementMetricsFilter.N_PLUS_ONE_METRIC)
+                .tag("uri", "/api/v1/board/me").counter().count());
+    }
+
+    @Test
+    void doFilter_headersDisabled_onlyRecordsMetrics() throws Exception {
+        filter = new SqlStatementMetricsFilter(counter, meterRegistry, false, 5, 4);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/v1/user/me", "/api/v1/user/me"), response, (req, res) -> counter.inspect("select u from users u"));
+
+        assertNull(response.getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER));
+        assertEquals(1, meterRegistry.get(SqlStatementMetricsFilter.STATEMENTS_METRIC).tag("uri", "/api/v1/user/me").summary().count());
+    }
+
+    @Test
+    void doFilter_sequenceFetches_areCountedApartFromStatements() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("/api/v1/task/7", "/api/v1/task/{id}"), response, (req, res) -> {
+            counter.inspect("select nextval('task_seq')");
+            counter.inspect("select next value for item_seq");
+            counter.inspect("insert into task (title,id) values (?,?)");
+        });
+
+        assertEquals("1", response.getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER));
+    }
+
+    @Test
+    void queryBudget_countsStatementsOnCallingThread() throws Throwable {
+        String result = assertStatements(2, () -> {
+            counter.inspect("select 1");
+            counter.inspect("select 2");
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(0, counter.current().getStatements());
+    }
+
+    private MockHttpServletRequest request(String uri, String pattern) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+}
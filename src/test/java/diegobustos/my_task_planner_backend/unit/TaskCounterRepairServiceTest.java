@@ -0,0 +1,78 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.repository.TaskRepository;
+import diegobustos.my_task_planner_backend.service.JobLockService;
+import diegobustos.my_task_planner_backend.service.TaskCounterRepairService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TaskCounterRepairServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private JobLockService jobLockService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskCounterRepairService taskCounterRepairService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(jobLockService.tryLock(eq(TaskCounterRepairService.LOCK_NAME), any())).thenReturn(true);
+        taskCounterRepairService = new TaskCounterRepairService(taskRepository, jobLockService, transactionManager, 2, Duration.ofHours(1));
+    }
+
+    @Test
+    void rebuildItemCounters_walksLiveTaskIdsOneChunkPerTransaction() {
+        when(taskRepository.findLiveIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 5L));
+        when(taskRepository.findLiveIdsAfter(5L, Limit.of(2))).thenReturn(List.of(9L));
+        when(taskRepository.findLiveIdsAfter(9L, Limit.of(2))).thenReturn(List.of());
+        when(taskRepository.rebuildItemCounters(List.of(1L, 5L))).thenReturn(1);
+
+        taskCounterRepairService.rebuildItemCounters();
+
+        InOrder inOrder = inOrder(taskRepository, jobLockService);
+        inOrder.verify(taskRepository).rebuildItemCounters(List.of(1L, 5L));
+        inOrder.verify(taskRepository).rebuildItemCounters(List.of(9L));
+        inOrder.verify(jobLockService).unlock(TaskCounterRepairService.LOCK_NAME);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void rebuildItemCounters_lockHeldElsewhere_touchesNothing() {
+        when(jobLockService.tryLock(eq(TaskCounterRepairService.LOCK_NAME), any())).thenReturn(false);
+
+        taskCounterRepairService.rebuildItemCounters();
+
+        verifyNoInteractions(taskRepository);
+        verify(jobLockService, never()).unlock(any());
+    }
+
+    @Test
+    void rebuildItemCounters_failure_stillReleasesTheLock() {
+        when(taskRepository.findLiveIdsAfter(any(), any())).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> taskCounterRepairService.rebuildItemCounters());
+
+        verify(jobLockService).unlock(TaskCounterRepairService.LOCK_NAME);
+    }
+}
@@ -1,31 +1,35 @@
 package diegobustos.my_task_planner_backend.unit;
 
+import diegobustos.my_task_planner_backend.dto.BulkTaskResponse;
+import diegobustos.my_task_planner_backend.dto.CursorPageResponse;
+import diegobustos.my_task_planner_backend.dto.ItemResponse;
+import diegobustos.my_task_planner_backend.dto.MoveTasksRequest;
+import diegobustos.my_task_planner_backend.dto.PageCursor;
 import diegobustos.my_task_planner_backend.dto.TaskRequest;
 import diegobustos.my_task_planner_backend.dto.TaskResponse;
 import diegobustos.my_task_planner_backend.entity.Board;
+import diegobustos.my_task_planner_backend.entity.Item;
 import diegobustos.my_task_planner_backend.entity.Task;
-import diegobustos.my_task_planner_backend.entity.User;
 import diegobustos.my_task_planner_backend.exception.BoardNotFoundException;
 import diegobustos.my_task_planner_backend.exception.TaskNotFoundException;
-import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
-import diegobustos.my_task_planner_backend.repository.BoardRepository;
 import diegobustos.my_task_planner_backend.repository.ItemRepository;
 import diegobustos.my_task_planner_backend.repository.TaskRepository;
-import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.service.BoardAccessService;
 import diegobustos.my_task_planner_backend.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Limit;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,45 +39,28 @@ class TaskServiceTest {
     @InjectMocks
     private TaskService taskService;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private TaskRepository taskRepository;
 
-    @Mock
-    private BoardRepository boardRepository;
-
     @Mock
     private ItemRepository itemRepository;
 
     @Mock
-    private Authentication authentication;
-
-    @Mock
-    private SecurityContext securityContext;
+    private BoardAccessService boardAccessService;
 
-    private final String userEmail = "test@example.com";
-    private final User user = User.builder().id(1L).email(userEmail).build();
     private final Board board = Board.builder().id(1L).users(List.of()).build();
     private final Task task = Task.builder().id(1L).title("Sample Task").board(board).build();
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        SecurityContextHolder.setContext(securityContext);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn(userEmail);
-
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.of(user));
     }
 
     @Test
     void createTask_success() {
         TaskRequest request = new TaskRequest("New Task");
 
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(userEmail, board.getId()))
-                .thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
 
         Task savedTask = Task.builder().id(1L).title("New Task").board(board).build();
         when(taskRepository.save(any(Task.class))).thenReturn(savedTask);
@@ -89,22 +76,22 @@ class TaskServiceTest {
     void createTask_boardNotFound() {
         TaskRequest request = new TaskRequest("New Task");
 
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(userEmail, board.getId()))
-                .thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleBoard(board.getId()))
+                .thenThrow(new BoardNotFoundException("Board not found"));
 
         assertThrows(BoardNotFoundException.class, () ->
                 taskService.createTask(board.getId(), request));
+        verify(taskRepository, never()).save(any());
     }
 
     @Test
     void getAllTasks_success() {
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(userEmail, board.getId()))
-                .thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
 
         when(taskRepository.findByBoardIdAndDeletedAtIsNullOrderByCreatedAtDesc(board.getId()))
                 .thenReturn(List.of(task));
 
-        when(itemRepository.findByTaskIdAndDeletedAtIsNull(task.getId()))
+        when(itemRepository.findByTaskIdInAndDeletedAtIsNull(List.of(task.getId())))
                 .thenReturn(List.of());
 
         List<TaskResponse> responses = taskService.getAllTasks(board.getId());
@@ -112,14 +99,122 @@ class TaskServiceTest {
         assertEquals(1, responses.size());
     }
 
+    @Test
+    void getAllTasks_loadsItemsForAllTasksInOneQuery() {
+        Task otherTask = Task.builder().id(2L).title("Other Task").board(board).build();
+        Item first = Item.builder().id(10L).title("First").task(task).build();
+        Item second = Item.builder().id(11L).title("Second").task(otherTask).build();
+        Item third = Item.builder().id(12L).title("Third").task(otherTask).build();
+
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
+        when(taskRepository.findByBoardIdAndDeletedAtIsNullOrderByCreatedAtDesc(board.getId()))
+                .thenReturn(List.of(task, otherTask));
+        when(itemRepository.findByTaskIdInAndDeletedAtIsNull(List.of(task.getId(), otherTask.getId())))
+                .thenReturn(List.of(first, second, third));
+
+        List<TaskResponse> responses = taskService.getAllTasks(board.getId());
+
+        assertEquals(2, responses.size());
+        assertEquals(List.of("First"), responses.get(0).getItems().stream().map(ItemResponse::getTitle).toList());
+        assertEquals(List.of("Second", "Third"), responses.get(1).getItems().stream().map(ItemResponse::getTitle).toList());
+        verify(itemRepository).findByTaskIdInAndDeletedAtIsNull(anyCollection());
+        verify(itemRepository, never()).findByTaskIdAndDeletedAtIsNull(any());
+    }
+
+    @Test
+    void getAllTasks_emptyBoard_skipsItemQuery() {
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
+        when(taskRepository.findByBoardIdAndDeletedAtIsNullOrderByCreatedAtDesc(board.getId()))
+                .thenReturn(List.of());
+
+        List<TaskResponse> responses = taskService.getAllTasks(board.getId());
+
+        assertTrue(responses.isEmpty());
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void getAllTasks_boardNotFound() {
+        when(boardAccessService.getAccessibleBoard(board.getId()))
+                .thenThrow(new BoardNotFoundException("Board not found"));
+
+        assertThrows(BoardNotFoundException.class, () ->
+                taskService.getAllTasks(board.getId()));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksByCursor_firstSlice_pushesFilterAndBatchesItems() {
+        Task newest = taskCreatedAt(3L, "2025-05-03T10:00:00Z");
+        Task middle = taskCreatedAt(2L, "2025-05-02T10:00:00Z");
+        Task oldest = taskCreatedAt(1L, "2025-05-01T10:00:00Z");
+
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
+        when(taskRepository.findFirstSliceByBoardId(board.getId(), true, Limit.of(3)))
+                .thenReturn(List.of(newest, middle, oldest));
+        when(itemRepository.findByTaskIdInAndDeletedAtIsNull(List.of(3L, 2L))).thenReturn(List.of());
+
+        CursorPageResponse<TaskResponse> response = taskService.getTasksByCursor(board.getId(), "", 2, true);
+
+        assertEquals(List.of(3L, 2L), response.getContent().stream().map(TaskResponse::getId).toList());
+        assertTrue(response.isHasNext());
+        PageCursor next = PageCursor.decode(response.getNextCursor());
+        assertEquals(middle.getCreatedAt(), next.getCreatedAt());
+        assertEquals(middle.getId(), next.getId());
+        verify(itemRepository).findByTaskIdInAndDeletedAtIsNull(List.of(3L, 2L));
+        verify(itemRepository, never()).findByTaskIdAndDeletedAtIsNull(any());
+    }
+
+    @Test
+    void getTasksByCursor_afterCursor_lastSlice() {
+        Task oldest = taskCreatedAt(1L, "2025-05-01T10:00:00Z");
+        PageCursor cursor = new PageCursor(Instant.parse("2025-05-02T10:00:00Z"), 2L);
+
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
+        when(taskRepository.findSliceByBoardIdAfter(board.getId(), null, cursor.getCreatedAt(), cursor.getId(), Limit.of(3)))
+                .thenReturn(List.of(oldest));
+        when(itemRepository.findByTaskIdInAndDeletedAtIsNull(List.of(1L))).thenReturn(List.of());
+
+        CursorPageResponse<TaskResponse> response = taskService.getTasksByCursor(board.getId(), cursor.encode(), 2, null);
+
+        assertEquals(1, response.getContent().size());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    void getTasksByCursor_emptySlice_skipsItemQuery() {
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
+        when(taskRepository.findFirstSliceByBoardId(board.getId(), false, Limit.of(21))).thenReturn(List.of());
+
+        CursorPageResponse<TaskResponse> response = taskService.getTasksByCursor(board.getId(), null, 20, false);
+
+        assertTrue(response.getContent().isEmpty());
+        assertFalse(response.isHasNext());
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    void getTasksByCursor_boardNotFound() {
+        when(boardAccessService.getAccessibleBoard(board.getId()))
+                .thenThrow(new BoardNotFoundException("Board not found"));
+
+        assertThrows(BoardNotFoundException.class, () ->
+                taskService.getTasksByCursor(board.getId(), null, 20, null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    private Task taskCreatedAt(Long id, String createdAt) {
+        Task created = Task.builder().id(id).title("Task " + id).board(board).build();
+        created.setCreatedAt(Instant.parse(createdAt));
+        return created;
+    }
+
     @Test
     void updateTask_success() {
         TaskRequest request = new TaskRequest("Updated Task");
 
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId()))
-                .thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(userEmail, board.getId()))
-                .thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleTask(task.getId())).thenReturn(task);
         when(itemRepository.findByTaskIdAndDeletedAtIsNull(task.getId()))
                 .thenReturn(List.of());
 
@@ -133,8 +228,8 @@ class TaskServiceTest {
     void updateTask_notFound() {
         TaskRequest request = new TaskRequest("Updated Task");
 
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId()))
-                .thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleTask(task.getId()))
+                .thenThrow(new TaskNotFoundException("Task not found"));
 
         assertThrows(TaskNotFoundException.class, () ->
                 taskService.updateTask(task.getId(), request));
@@ -142,25 +237,35 @@ class TaskServiceTest {
 
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
-    void toggleTaskCompletion_success(boolean initialState) {
-        task.setCompleted(initialState);
+    void toggleTaskCompletion_success(boolean newState) {
+        Task toggled = Task.builder().id(task.getId()).title(task.getTitle()).board(board).completed(newState).build();
 
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId()))
-                .thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(userEmail, board.getId()))
-                .thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleTask(task.getId())).thenReturn(task);
+        when(taskRepository.toggleCompleted(eq(task.getId()), any(Instant.class))).thenReturn(1);
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(toggled));
         when(itemRepository.findByTaskIdAndDeletedAtIsNull(task.getId()))
                 .thenReturn(List.of());
 
         TaskResponse response = taskService.toggleTaskCompletion(task.getId());
-        assertEquals(!initialState, task.isCompleted());
-        assertEquals(task.isCompleted(), response.isCompleted());
+
+        assertEquals(newState, response.isCompleted());
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void toggleTaskCompletion_taskDeletedConcurrently() {
+        when(boardAccessService.getAccessibleTask(task.getId())).thenReturn(task);
+        when(taskRepository.toggleCompleted(eq(task.getId()), any(Instant.class))).thenReturn(0);
+
+        assertThrows(TaskNotFoundException.class, () ->
+                taskService.toggleTaskCompletion(task.getId()));
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
     void toggleTaskCompletion_taskNotFound() {
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId()))
-                .thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleTask(task.getId()))
+                .thenThrow(new TaskNotFoundException("Task not found"));
 
         assertThrows(TaskNotFoundException.class, () ->
                 taskService.toggleTaskCompletion(task.getId()));
@@ -168,10 +273,7 @@ class TaskServiceTest {
 
     @Test
     void deleteTask_success() {
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId()))
-                .thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(userEmail, board.getId()))
-                .thenReturn(Optional.of(board));
+        when(boardAccessService.getAccessibleTask(task.getId())).thenReturn(task);
 
         taskService.deleteTask(task.getId());
 
@@ -181,30 +283,72 @@ class TaskServiceTest {
 
     @Test
     void deleteTask_taskNotFound() {
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId()))
-                .thenReturn(Optional.empty());
+        when(boardAccessService.getAccessibleTask(task.getId()))
+                .thenThrow(new TaskNotFoundException("Task not found"));
 
         assertThrows(TaskNotFoundException.class, () ->
                 taskService.deleteTask(task.getId()));
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void completeAllTasks_checksAccessOnceAndChecksItemsBeforeCompletingTasks() {
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
+        when(taskRepository.completeAllByBoardId(eq(board.getId()), any(Instant.class))).thenReturn(7);
+
+        BulkTaskResponse response = taskService.completeAllTasks(board.getId());
+
+        assertEquals(7, response.getAffected());
+        verify(boardAccessService, times(1)).getAccessibleBoard(board.getId());
+        InOrder inOrder = inOrder(itemRepository, taskRepository);
+        inOrder.verify(itemRepository).checkAllOfOpenTasksByBoardId(eq(board.getId()), any(Instant.class));
+        inOrder.verify(taskRepository).completeAllByBoardId(eq(board.getId()), any(Instant.class));
+        verify(taskRepository, never()).save(any());
+    }
+
+    @Test
+    void deleteCompletedTasks_checksAccessOnceAndUpdatesInOneStatement() {
+        when(boardAccessService.getAccessibleBoard(board.getId())).thenReturn(board);
+        when(taskRepository.softDeleteCompletedByBoardId(eq(board.getId()), any(Instant.class))).thenReturn(3);
+
+        BulkTaskResponse response = taskService.deleteCompletedTasks(board.getId());
+
+        assertEquals(3, response.getAffected());
+        verify(taskRepository, never()).save(any());
     }
 
     @Test
-    void deleteTask_boardNotFound() {
-        when(taskRepository.findByIdAndDeletedAtIsNull(task.getId()))
-                .thenReturn(Optional.of(task));
-        when(boardRepository.findByUserEmailAndBoardIdAndDeletedAtIsNull(userEmail, board.getId()))
-                .thenReturn(Optional.empty());
+    void deleteCompletedTasks_boardNotFound() {
+        when(boardAccessService.getAccessibleBoard(board.getId()))
+                .thenThrow(new BoardNotFoundException("Board not found"));
 
         assertThrows(BoardNotFoundException.class, () ->
-                taskService.deleteTask(task.getId()));
+                taskService.deleteCompletedTasks(board.getId()));
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
-    void validateAccessAndGetBoard_userNotFound() {
-        when(userRepository.findByEmail(userEmail)).thenReturn(Optional.empty());
+    void moveTasks_checksTargetAndMovesOnlyAccessibleTasks() {
+        Board target = Board.builder().id(2L).users(List.of()).build();
+        MoveTasksRequest request = new MoveTasksRequest(List.of(1L, 2L, 2L), target.getId());
+
+        when(boardAccessService.getAccessibleBoard(target.getId())).thenReturn(target);
+        when(boardAccessService.currentUserId()).thenReturn(9L);
+        when(taskRepository.moveAccessibleToBoard(eq(Set.of(1L, 2L)), eq(9L), eq(target), any(Instant.class))).thenReturn(1);
+
+        BulkTaskResponse response = taskService.moveTasks(request);
 
-        assertThrows(UserNotFoundException.class, () ->
-                taskService.getAllTasks(1L));
+        assertEquals(1, response.getAffected());
+        verify(boardAccessService, never()).getAccessibleTask(any());
     }
-}
 
+    @Test
+    void moveTasks_targetBoardNotFound() {
+        when(boardAccessService.getAccessibleBoard(2L))
+                .thenThrow(new BoardNotFoundException("Board not found"));
+
+        assertThrows(BoardNotFoundException.class, () ->
+                taskService.moveTasks(new MoveTasksRequest(List.of(1L), 2L)));
+        verifyNoInteractions(taskRepository);
+    }
+}
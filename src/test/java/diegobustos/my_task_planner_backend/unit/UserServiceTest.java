@@ -1,5 +1,6 @@
 package diegobustos.my_task_planner_backend.unit;
 
+import diegobustos.my_task_planner_backend.dto.AuthRequest;
 import diegobustos.my_task_planner_backend.dto.AuthResponse;
 import diegobustos.my_task_planner_backend.dto.RegisterRequest;
 import diegobustos.my_task_planner_backend.dto.UpdatePasswordRequest;
@@ -7,16 +8,20 @@ import diegobustos.my_task_planner_backend.dto.UpdateUserRequest;
 import diegobustos.my_task_planner_backend.entity.User;
 import diegobustos.my_task_planner_backend.exception.UserNotFoundException;
 import diegobustos.my_task_planner_backend.repository.UserRepository;
+import diegobustos.my_task_planner_backend.service.BoardAccessService;
 import diegobustos.my_task_planner_backend.service.JwtService;
+import diegobustos.my_task_planner_backend.service.PrincipalCacheService;
+import diegobustos.my_task_planner_backend.service.SoftDeleteService;
 import diegobustos.my_task_planner_backend.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -30,6 +35,9 @@ class UserServiceTest {
     @Mock PasswordEncoder passwordEncoder;
     @Mock
     JwtService jwtService;
+    @Mock PrincipalCacheService principalCacheService;
+    @Mock SoftDeleteService softDeleteService;
+    @Mock BoardAccessService boardAccessService;
 
     private RegisterRequest req;
 
@@ -45,7 +53,7 @@ class UserServiceTest {
                 .thenReturn(Optional.empty());
         when(passwordEncoder.encode("pass"))
                 .thenReturn("encoded");
-        when(jwtService.generateToken("a@b.com"))
+        when(jwtService.generateToken(eq("a@b.com"), any()))
                 .thenReturn("tok");
 
         AuthResponse res = userService.registerUser(req);
@@ -70,9 +78,9 @@ class UserServiceTest {
 
     @Test
     void updateUser_success() {
-        mockAuthenticatedUser("a@b.com");
+        when(boardAccessService.currentUserId()).thenReturn(7L);
         var user = User.builder().email("a@b.com").firstName("Old").lastName("Name").build();
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
 
         var req = new UpdateUserRequest("NewFirst", "NewLast");
         var res = userService.updateUserById(req);
@@ -84,8 +92,8 @@ class UserServiceTest {
 
     @Test
     void updateUser_notFound() {
-        mockAuthenticatedUser("a@b.com");
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.empty());
+        when(boardAccessService.currentUserId()).thenReturn(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
 
         var req = new UpdateUserRequest("A", "B");
         assertThrows(UserNotFoundException.class, () -> userService.updateUserById(req));
@@ -93,9 +101,9 @@ class UserServiceTest {
 
     @Test
     void getUser_success() {
-        mockAuthenticatedUser("a@b.com");
+        when(boardAccessService.currentUserId()).thenReturn(7L);
         var user = User.builder().email("a@b.com").firstName("A").lastName("B").build();
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
 
         var res = userService.getUserById();
 
@@ -105,17 +113,17 @@ class UserServiceTest {
 
     @Test
     void getUser_notFound() {
-        mockAuthenticatedUser("a@b.com");
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.empty());
+        when(boardAccessService.currentUserId()).thenReturn(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> userService.getUserById());
     }
 
     @Test
     void updatePassword_success() {
-        mockAuthenticatedUser("a@b.com");
+        when(boardAccessService.currentUserId()).thenReturn(7L);
         var user = User.builder().email("a@b.com").password("hashed").build();
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("oldPassword1", "hashed")).thenReturn(true);
         when(passwordEncoder.encode("newPassword1")).thenReturn("newHashed");
 
@@ -124,13 +132,14 @@ class UserServiceTest {
 
         assertEquals("newHashed", user.getPassword());
         verify(userRepository).save(user);
+        verify(principalCacheService).evict("a@b.com");
     }
 
     @Test
     void updatePassword_wrongPassword() {
-        mockAuthenticatedUser("a@b.com");
+        when(boardAccessService.currentUserId()).thenReturn(7L);
         var user = User.builder().email("a@b.com").password("hashed").build();
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("wrongPassword1", "hashed")).thenReturn(false);
 
         var req = new UpdatePasswordRequest("wrongPassword1", "newPassword1");
@@ -138,12 +147,13 @@ class UserServiceTest {
         var ex = assertThrows(IllegalArgumentException.class,
                 () -> userService.updatePasswordById(req));
         assertEquals("The password is incorrect", ex.getMessage());
+        verify(principalCacheService, never()).evict(any());
     }
 
     @Test
     void updatePassword_notFound() {
-        mockAuthenticatedUser("a@b.com");
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.empty());
+        when(boardAccessService.currentUserId()).thenReturn(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
 
         var req = new UpdatePasswordRequest("oldPassword1", "newPassword1");
         assertThrows(UserNotFoundException.class, () -> userService.updatePasswordById(req));
@@ -151,30 +161,70 @@ class UserServiceTest {
 
     @Test
     void deleteUser_success() {
-        mockAuthenticatedUser("a@b.com");
+        when(boardAccessService.currentUserId()).thenReturn(7L);
         var user = User.builder().email("a@b.com").build();
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
 
         userService.deleteUserById();
 
         assertNotNull(user.getDeletedAt());
         verify(userRepository).save(user);
+        verify(principalCacheService).evict("a@b.com");
+        verify(softDeleteService).deleteBoardsOfUser(user.getId(), user.getDeletedAt());
     }
 
     @Test
     void deleteUser_notFound() {
-        mockAuthenticatedUser("a@b.com");
-        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.empty());
+        when(boardAccessService.currentUserId()).thenReturn(7L);
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> userService.deleteUserById());
     }
 
-    private void mockAuthenticatedUser(String email) {
-        var auth = mock(org.springframework.security.core.Authentication.class);
-        when(auth.getName()).thenReturn(email);
-        var context = mock(org.springframework.security.core.context.SecurityContext.class);
-        when(context.getAuthentication()).thenReturn(auth);
-        SecurityContextHolder.setContext(context);
+    @Test
+    void restoreUser_restoresBoardsDeletedWithTheUserAndReturnsToken() {
+        Instant deletedAt = Instant.parse("2025-05-01T10:00:00Z");
+        var user = User.builder().id(7L).email("a@b.com").password("hashed").build();
+        user.setDeletedAt(deletedAt);
+        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Password1", "hashed")).thenReturn(true);
+        when(jwtService.generateToken("a@b.com", 7L)).thenReturn("tok");
+
+        AuthResponse res = userService.restoreUser(new AuthRequest("a@b.com", "Password1"));
+
+        assertEquals("tok", res.getToken());
+        assertNull(user.getDeletedAt());
+        verify(softDeleteService).restoreBoardsOfUser(7L, deletedAt);
+        verify(userRepository).save(user);
+        verify(principalCacheService).evict("a@b.com");
     }
-}
 
+    @Test
+    void restoreUser_wrongPassword_isRejected() {
+        var user = User.builder().id(7L).email("a@b.com").password("hashed").build();
+        user.setDeletedAt(Instant.now());
+        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Password1", "hashed")).thenReturn(false);
+
+        assertThrows(BadCredentialsException.class, () -> userService.restoreUser(new AuthRequest("a@b.com", "Password1")));
+        verifyNoInteractions(softDeleteService);
+    }
+
+    @Test
+    void restoreUser_liveUser_isRejected() {
+        var user = User.builder().id(7L).email("a@b.com").password("hashed").build();
+        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("Password1", "hashed")).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> userService.restoreUser(new AuthRequest("a@b.com", "Password1")));
+        verifyNoInteractions(softDeleteService);
+        verify(userRepository, never()).save(any());
+    }
+
+    @Test
+    void restoreUser_unknownEmail_isRejected() {
+        when(userRepository.findByEmail("a@b.com")).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class, () -> userService.restoreUser(new AuthRequest("a@b.com", "Password1")));
+    }
+}
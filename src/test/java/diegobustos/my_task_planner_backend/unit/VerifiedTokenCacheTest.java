@@ -0,0 +1,111 @@
+package diegobustos.my_task_planner_backend.unit;
+
+import diegobustos.my_task_planner_backend.service.JwtService;
+import diegobustos.my_task_planner_backend.service.VerifiedToken;
+import diegobustos.my_task_planner_backend.service.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "5367566859703373367639792F423F452848284D6251655468576D5A71347437";
+
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = spy(newJwtService(60_000));
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtService, meterRegistry, 100, Duration.ofMinutes(15), 60_000);
+    }
+
+    @Test
+    void verify_repeatedToken_parsesOnlyOnce() {
+        String token = jwtService.generateToken("a@b.com", 1L);
+
+        Optional<VerifiedToken> first = verifiedTokenCache.verify(token);
+        Optional<VerifiedToken> second = verifiedTokenCache.verify(token);
+
+        assertTrue(first.isPresent());
+        assertEquals("a@b.com", second.orElseThrow().getSubject());
+        assertEquals(1L, second.get().getUserId());
+        assertNotNull(second.get().getJti());
+        verify(jwtService, times(1)).verifyAndExtract(token);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void verify_invalidToken_isNotCached() {
+        verifiedTokenCache.verify("not-a-jwt");
+        Optional<VerifiedToken> result = verifiedTokenCache.verify("not-a-jwt");
+
+        assertTrue(result.isEmpty());
+        verify(jwtService, times(2)).verifyAndExtract("not-a-jwt");
+    }
+
+    @Test
+    void verify_missingToken_skipsParsing() {
+        assertTrue(verifiedTokenCache.verify(null).isEmpty());
+        assertTrue(verifiedTokenCache.verify("").isEmpty());
+        verify(jwtService, never()).verifyAndExtract(any());
+    }
+
+    @Test
+    void revoke_rejectsCachedAndFreshlyVerifiedToken() {
+        String token = jwtService.generateToken("a@b.com", 1L);
+        String jti = verifiedTokenCache.verify(token).orElseThrow().getJti();
+        String otherToken = jwtService.generateToken("a@b.com", 1L);
+
+        verifiedTokenCache.revoke(jti);
+
+        assertTrue(verifiedTokenCache.verify(token).isEmpty());
+        assertTrue(verifiedTokenCache.verify(token).isEmpty());
+        assertTrue(verifiedTokenCache.verify(otherToken).isPresent());
+    }
+
+    @Test
+    void revoke_isNotEvictedBySizeBound() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, meterRegistry, 1, Duration.ofMinutes(15), 60_000);
+        String token = jwtService.generateToken("a@b.com", 1L);
+        cache.revoke(cache.verify(token).orElseThrow().getJti());
+
+        for (int i = 0; i < 100; i++) {
+            String other = jwtService.generateToken("a@b.com", 1L);
+            cache.revoke(cache.verify(other).orElseThrow().getJti());
+        }
+
+        assertTrue(cache.verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_entryNeverOutlivesToken() throws InterruptedException {
+        JwtService shortLived = newJwtService(1_000);
+        VerifiedTokenCache cache = new VerifiedTokenCache(shortLived, meterRegistry, 100, Duration.ofMinutes(15), 1_000);
+        String token = shortLived.generateToken("a@b.com", 1L);
+
+        assertTrue(cache.verify(token).isPresent());
+
+        Thread.sleep(1_500);
+
+        assertTrue(cache.verify(token).isEmpty());
+    }
+
+    private JwtService newJwtService(long expiration) {
+        JwtService service = new JwtService();
+        ReflectionTestUtils.setField(service, "secret", SECRET);
+        ReflectionTestUtils.setField(service, "expiration", expiration);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}